@@ -0,0 +1,54 @@
+package com.skywings.benchmarks;
+
+import com.skywings.AirlineReservationApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the backend on a random port and an in-memory H2 database in MySQL
+ * mode, for benchmarks that go through the real services and queries. H2 is not
+ * MySQL, so compare these numbers with each other rather than with production.
+ */
+final class EmbeddedBackend {
+
+    private EmbeddedBackend() {
+    }
+
+    static ConfigurableApplicationContext start(String database, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000;"
+                + "INIT=CREATE ALIAS IF NOT EXISTS DATE_FORMAT FOR 'com.skywings.support.MySqlFunctions.dateFormat'");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.open-in-view", "false");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        // The security configuration needs a servlet context; nothing calls the port
+        properties.put("server.port", "0");
+        // HS512 needs a 64-byte key
+        properties.put("spring.security.jwt.secret",
+                "YmVuY2htYXJrLXNpZ25pbmcta2V5LW5vdC1mb3ItcHJvZHVjdGlvbi11c2UtMDEyMzQ1Njc4OWFiY2RlZmdoaWo=");
+        // Keep the scheduled jobs off the measured path
+        properties.put("skywings.inventory.reconcile-interval-ms", "86400000");
+        properties.put("skywings.bookings.expiry-sweep.interval-ms", "86400000");
+        properties.put("skywings.analytics.snapshot.initial-delay-ms", "86400000");
+        properties.put("skywings.security.denylist.refresh-ms", "86400000");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.skywings", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate.tool.schema", "ERROR"); // create-drop on an empty database
+        properties.putAll(overrides);
+        // As command-line arguments, so they win over the backend's application.yml
+        return new SpringApplicationBuilder(AirlineReservationApplication.class)
+                .run(properties.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue())
+                        .toArray(String[]::new));
+    }
+}
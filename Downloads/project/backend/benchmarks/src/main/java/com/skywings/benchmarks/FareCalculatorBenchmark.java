@@ -0,0 +1,56 @@
+package com.skywings.benchmarks;
+
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import com.skywings.model.User;
+import com.skywings.service.FareCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal pricing of a booking: fare plus upgrade, excess baggage and the
+ * loyalty discount.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FareCalculatorBenchmark {
+
+    @Param({"BRONZE", "PLATINUM"})
+    private User.LoyaltyTier tier;
+
+    @Param({"20", "35"})
+    private int baggageWeight;
+
+    private final FareCalculator fareCalculator = new FareCalculator();
+    private Flight flight;
+    private Seat seat;
+
+    @Setup
+    public void setUp() {
+        flight = new Flight();
+        flight.setPrice(new BigDecimal("349.99"));
+        seat = new Seat();
+        seat.setUpgradePrice(BigDecimal.valueOf(75));
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        return fareCalculator.calculateTotalAmount(flight, seat, baggageWeight, tier);
+    }
+}
@@ -0,0 +1,73 @@
+package com.skywings.benchmarks;
+
+import com.skywings.model.Flight;
+import com.skywings.service.FlightService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flights created per second through {@code FlightService.createFlight}: the
+ * flight insert with its counters taken from the seat layout, plus the batched
+ * seat rows, for each aircraft's layout.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class FlightCreationBenchmark {
+
+    @Param({"Airbus A320", "Boeing 737", "Boeing 787"})
+    private String aircraft;
+
+    private ConfigurableApplicationContext context;
+    private FlightService flightService;
+    private LocalDateTime departure;
+    private int created;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedBackend.start("create" + aircraft.hashCode(), Map.of());
+        flightService = context.getBean(FlightService.class);
+        departure = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(30);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Flight create() {
+        int n = ++created;
+        Flight flight = new Flight();
+        flight.setFlightNumber(String.format("FC%07d", n));
+        flight.setAirline("SkyWings");
+        flight.setOrigin("Boston (BOS)");
+        flight.setDestination("Miami (MIA)");
+        flight.setDepartureTime(departure.plusMinutes(n));
+        flight.setArrivalTime(departure.plusMinutes(n + 180));
+        flight.setPrice(BigDecimal.valueOf(19900, 2));
+        flight.setTotalSeats(0);
+        flight.setAircraft(aircraft);
+        return flightService.createFlight(flight);
+    }
+}
@@ -0,0 +1,80 @@
+package com.skywings.benchmarks;
+
+import com.skywings.dto.FlightImportResult;
+import com.skywings.service.FlightImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flights imported per second by {@code FlightImportService} from a CSV
+ * schedule, flight and seat rows included, by worker count. Every invocation
+ * imports a fresh file of new flight numbers into the growing database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(FlightImportBenchmark.FLIGHTS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class FlightImportBenchmark {
+    static final int FLIGHTS = 2000;
+    private static final List<String> AIRCRAFT = List.of("Airbus A320", "Boeing 737", "Boeing 787");
+
+    @Param({"1", "4"})
+    private int workers;
+
+    private ConfigurableApplicationContext context;
+    private FlightImportService flightImportService;
+    private LocalDateTime departure;
+    private int files;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedBackend.start("import" + workers, Map.of("skywings.import.workers", workers));
+        flightImportService = context.getBean(FlightImportService.class);
+        departure = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(30);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public FlightImportResult importSchedule() {
+        int file = ++files;
+        StringBuilder csv = new StringBuilder(
+                "flightNumber,airline,origin,destination,aircraft,departureTime,arrivalTime,price\n");
+        for (int i = 0; i < FLIGHTS; i++) {
+            LocalDateTime departs = departure.plusMinutes(i);
+            csv.append(String.format("IB%04d%05d,SkyWings,Boston (BOS),Miami (MIA),%s,%s,%s,199.00\n", file, i,
+                    AIRCRAFT.get(i % AIRCRAFT.size()), departs, departs.plusHours(3)));
+        }
+        FlightImportResult result = flightImportService.importSchedule(new StringReader(csv.toString()),
+                FlightImportService.Format.CSV);
+        if (result.imported() != FLIGHTS) {
+            throw new IllegalStateException("Import failed: " + result.errors());
+        }
+        return result;
+    }
+}
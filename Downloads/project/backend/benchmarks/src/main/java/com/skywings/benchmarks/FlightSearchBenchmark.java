@@ -0,0 +1,115 @@
+package com.skywings.benchmarks;
+
+import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import com.skywings.model.AirportCodes;
+import com.skywings.model.Flight;
+import com.skywings.repository.FlightBatchRepository;
+import com.skywings.service.FlightSearchEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flight search through {@code FlightSearchEngine} (bypassing the result cache)
+ * as the flights table grows: a route + day search answered from the route index,
+ * and a multi-airport city search that falls back to the substring scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class FlightSearchBenchmark {
+    private static final List<String> CITIES = List.of("Boston (BOS)", "Miami (MIA)", "Seattle (SEA)",
+            "Atlanta (ATL)", "Denver (DEN)", "Las Vegas (LAS)", "San Francisco (SFO)", "Los Angeles (LAX)",
+            "New York (JFK)", "New York (LGA)", "Chicago (ORD)", "Chicago (MDW)", "London (LHR)", "Paris (CDG)",
+            "Tokyo (HND)", "Dubai (DXB)", "Delhi (DEL)", "Mumbai (BOM)", "Orlando (MCO)", "Washington (IAD)");
+    private static final int DAYS = 365;
+    private static final int CHUNK = 10000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int flights;
+
+    @Param({"indexed", "substring"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private FlightSearchEngine flightSearchEngine;
+    private FlightSearchRequest request;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedBackend.start("search" + flights, Map.of());
+        flightSearchEngine = context.getBean(FlightSearchEngine.class);
+        FlightBatchRepository flightBatchRepository = context.getBean(FlightBatchRepository.class);
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        List<Flight> chunk = new ArrayList<>(CHUNK);
+        for (int i = 1; i <= flights; i++) {
+            String origin = CITIES.get(random.nextInt(CITIES.size()));
+            String destination = CITIES.get(random.nextInt(CITIES.size()));
+            LocalDateTime departure = base.plusDays(random.nextInt(DAYS)).plusMinutes(random.nextInt(24 * 60));
+            Flight flight = new Flight();
+            flight.setFlightNumber(String.format("SB%07d", i));
+            flight.setAirline("SkyWings");
+            flight.setOrigin(origin);
+            flight.setDestination(destination);
+            flight.setOriginCode(AirportCodes.airportCode(origin));
+            flight.setDestinationCode(AirportCodes.airportCode(destination));
+            flight.setDepartureTime(departure);
+            flight.setArrivalTime(departure.plusHours(3));
+            flight.setDuration("3h 0m");
+            flight.setPrice(BigDecimal.valueOf(19900, 2));
+            flight.setTotalSeats(178);
+            flight.setAvailableSeats(178);
+            flight.setAvailableFirstSeats(0);
+            flight.setAvailableBusinessSeats(16);
+            flight.setAvailableEconomySeats(162);
+            flight.setAircraft("Airbus A320");
+            chunk.add(flight);
+            if (chunk.size() == CHUNK || i == flights) {
+                flightBatchRepository.insertFlights(chunk);
+                chunk.clear();
+            }
+        }
+        context.getBean(JdbcTemplate.class).execute("ANALYZE");
+
+        LocalDateTime day = base.plusDays(7);
+        request = "indexed".equals(path)
+                ? new FlightSearchRequest("Boston", "MIA", day)
+                : new FlightSearchRequest("New York", "London", day);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FlightSummary> search() {
+        return flightSearchEngine.search(request);
+    }
+}
@@ -0,0 +1,93 @@
+package com.skywings.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skywings.dto.BookingSummary;
+import com.skywings.dto.FlightSummary;
+import com.skywings.dto.SeatView;
+import com.skywings.model.Booking;
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import com.skywings.model.SeatLayoutTemplate;
+import com.skywings.service.SeatLayoutRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response payloads as the API serializes them: a flight, a full seat map and
+ * a booking, with an ObjectMapper configured the way Spring Boot configures it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private FlightSummary flight;
+    private List<SeatView> seatMap;
+    private BookingSummary booking;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot also writes dates as ISO strings
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime departure = LocalDateTime.of(2025, 6, 1, 8, 30);
+        flight = new FlightSummary(1L, "SW1234", "SkyWings", "New York", "London", "JFK", "LHR",
+                departure, departure.plusHours(7), "7h 0m", new BigDecimal("649.00"), 180, 142, 10, 18, 114,
+                "Boeing 787", Flight.FlightStatus.SCHEDULED);
+
+        seatMap = new ArrayList<>();
+        long id = 1;
+        SeatLayoutTemplate layout = new SeatLayoutRegistry().forAircraft("Boeing 787");
+        for (SeatLayoutTemplate.Cabin cabin : layout.cabins()) {
+            for (int row = cabin.firstRow(); row <= cabin.lastRow(); row++) {
+                for (char column : cabin.columns().toCharArray()) {
+                    seatMap.add(new SeatView(id++, row, String.valueOf(column), cabin.type(), cabin.upgradePrice(),
+                            id % 3 == 0 ? Seat.SeatStatus.OCCUPIED : Seat.SeatStatus.AVAILABLE, cabin.features()));
+                }
+            }
+        }
+
+        booking = new BookingSummary(1L, 42L, "Jane Doe", departure.minusDays(30), Booking.BookingStatus.BLOCKED,
+                new BigDecimal("724.00"), new BigDecimal("362.00"), new BigDecimal("362.00"), 30, 7,
+                BigDecimal.valueOf(105), 10, departure.minusHours(48), true, 1L, "SW1234", "SkyWings",
+                "New York", "London", departure, departure.plusHours(7), 17L, 4, "C", Seat.SeatType.BUSINESS);
+    }
+
+    @Benchmark
+    public byte[] flight() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(flight);
+    }
+
+    @Benchmark
+    public byte[] seatMap() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(seatMap);
+    }
+
+    @Benchmark
+    public byte[] booking() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(booking);
+    }
+}
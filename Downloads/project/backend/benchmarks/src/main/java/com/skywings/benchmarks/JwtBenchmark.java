@@ -0,0 +1,72 @@
+package com.skywings.benchmarks;
+
+import com.skywings.model.User;
+import com.skywings.security.jwt.JwtUtils;
+import com.skywings.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue at signin and the per-request verify / parse / principal build
+ * done by the auth filter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        // HS512 needs at least a 512-bit key
+        Fields.set(jwtUtils, "jwtSecret", Base64.getEncoder().encodeToString(new byte[64]));
+        Fields.set(jwtUtils, "jwtExpirationMs", 86400000);
+        Fields.invoke(jwtUtils, "init");
+
+        UserDetailsImpl principal = new UserDetailsImpl(42L, "bench@skywings.com", null, "Bench", "User",
+                User.Role.USER, User.LoyaltyTier.GOLD, 0, UserDetailsImpl.authoritiesOf(User.Role.USER));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtils.parseClaims(token);
+    }
+
+    @Benchmark
+    public UserDetailsImpl parseToPrincipal() {
+        return jwtUtils.toPrincipal(jwtUtils.parseClaims(token));
+    }
+}
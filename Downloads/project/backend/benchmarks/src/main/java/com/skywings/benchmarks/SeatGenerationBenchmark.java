@@ -0,0 +1,60 @@
+package com.skywings.benchmarks;
+
+import com.skywings.model.SeatLayoutTemplate;
+import com.skywings.repository.SeatBatchRepository;
+import com.skywings.service.SeatLayoutRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seat generation for a new flight, as done by {@code SeatService.generateSeatsForFlight}:
+ * layout lookup by aircraft and expansion into batch insert rows. The JDBC
+ * batch itself is captured instead of executed so only the object building is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SeatGenerationBenchmark {
+
+    @Param({"Airbus A320", "Boeing 777-300ER", "Unknown"})
+    private String aircraft;
+
+    private final SeatLayoutRegistry seatLayoutRegistry = new SeatLayoutRegistry();
+    private final SeatBatchRepository seatBatchRepository = new SeatBatchRepository();
+    private List<Object[]> lastBatch;
+
+    @Setup
+    public void setUp() {
+        Fields.set(seatBatchRepository, "jdbcTemplate", new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                lastBatch = batchArgs;
+                return new int[batchArgs.size()];
+            }
+        });
+    }
+
+    @Benchmark
+    public List<Object[]> generateSeatsForFlight() {
+        SeatLayoutTemplate layout = seatLayoutRegistry.forAircraft(aircraft);
+        seatBatchRepository.insertSeats(1L, layout, features -> 1L);
+        return lastBatch;
+    }
+}
@@ -0,0 +1,110 @@
+package com.skywings.benchmarks;
+
+import com.skywings.analytics.BookingSnapshot;
+import com.skywings.analytics.SnapshotQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Ad-hoc analytics queries over an in-memory {@link BookingSnapshot} of
+ * {@code rows} synthetic bookings: a full-table total, a group-by over a
+ * high-cardinality dimension and a filtered two-dimension group-by. The
+ * snapshot is built once per fork through the same builder the refresh uses;
+ * 50M rows take about 3.4 GB of heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4400m", "-Xmx4400m"})
+@State(Scope.Benchmark)
+public class SnapshotQueryBenchmark {
+    private static final String[] AIRLINES = {"SkyWings", "Atlas Air", "Blue Jet", "Cloudline"};
+    private static final String[] CABINS = {"FIRST", "BUSINESS", "ECONOMY"};
+    private static final String[] TIERS = {"BRONZE", "SILVER", "GOLD", "PLATINUM"};
+    private static final String[] STATUSES = {"CONFIRMED", "BLOCKED", "CANCELLED"};
+
+    @Param({"50000000"})
+    private int rows;
+
+    private BookingSnapshot snapshot;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        String[] routes = new String[400];
+        for (int i = 0; i < routes.length; i++) {
+            routes[i] = String.format("A%02d-B%02d", i / 20, i % 20);
+        }
+        String[] months = new String[36];
+        for (int i = 0; i < months.length; i++) {
+            months[i] = String.format("%d-%02d", 2024 + i / 12, i % 12 + 1);
+        }
+        Random random = new Random(42);
+        BookingSnapshot.Builder builder = BookingSnapshot.builder(rows);
+        String[] dimensions = new String[BookingSnapshot.Dimension.values().length];
+        long[] cents = new long[BookingSnapshot.Measure.values().length];
+        for (int i = 0; i < rows; i++) {
+            int month = random.nextInt(months.length);
+            dimensions[0] = AIRLINES[random.nextInt(AIRLINES.length)];
+            dimensions[1] = routes[random.nextInt(routes.length)];
+            dimensions[2] = CABINS[random.nextInt(CABINS.length)];
+            dimensions[3] = TIERS[random.nextInt(TIERS.length)];
+            dimensions[4] = STATUSES[random.nextInt(STATUSES.length)];
+            dimensions[5] = months[month];
+            dimensions[6] = months[Math.min(months.length - 1, month + random.nextInt(3))];
+            long total = 10_000 + random.nextInt(200_000);
+            cents[0] = total;
+            cents[1] = total / 2;
+            cents[2] = total - total / 2;
+            cents[3] = random.nextInt(4) * 1_000;
+            cents[4] = total / 20;
+            builder.add(dimensions, cents);
+        }
+        snapshot = builder.build();
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public SnapshotQuery.Result totalRevenue() {
+        return SnapshotQuery.run(snapshot, Map.of(), List.of(), List.of(BookingSnapshot.Measure.TOTAL_AMOUNT), pool);
+    }
+
+    @Benchmark
+    public SnapshotQuery.Result revenueByRoute() {
+        return SnapshotQuery.run(snapshot, Map.of(), List.of(BookingSnapshot.Dimension.ROUTE),
+                List.of(BookingSnapshot.Measure.TOTAL_AMOUNT), pool);
+    }
+
+    @Benchmark
+    public SnapshotQuery.Result firstCabinByMonthAndTier() {
+        Map<BookingSnapshot.Dimension, Predicate<String>> filters = Map.of(
+                BookingSnapshot.Dimension.CABIN, "FIRST"::equals,
+                BookingSnapshot.Dimension.STATUS, status -> !"CANCELLED".equals(status));
+        return SnapshotQuery.run(snapshot, filters,
+                List.of(BookingSnapshot.Dimension.BOOKING_MONTH, BookingSnapshot.Dimension.TIER),
+                List.of(BookingSnapshot.Measure.TOTAL_AMOUNT, BookingSnapshot.Measure.PAID_AMOUNT), pool);
+    }
+}
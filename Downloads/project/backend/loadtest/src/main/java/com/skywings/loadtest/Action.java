@@ -0,0 +1,12 @@
+package com.skywings.loadtest;
+
+/**
+ * One kind of user request, referenced from scenario mixes by its bean name.
+ * Implementations issue their calls through {@link VirtualUser#getClient()},
+ * which records them per endpoint.
+ */
+@FunctionalInterface
+public interface Action {
+
+    void perform(VirtualUser user);
+}
@@ -0,0 +1,56 @@
+package com.skywings.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counters and latency distribution for one endpoint label.
+ */
+final class EndpointStats {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder busy = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * @param status HTTP status, or -1 when the request failed without a response
+     */
+    void record(int status, long micros) {
+        requests.increment();
+        latencies.record(micros);
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else if (status == 409) {
+            conflicts.increment();
+        } else if (status == 503) {
+            busy.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    Summary summarize(String endpoint, double seconds) {
+        long total = requests.sum();
+        return new Summary(endpoint, total, seconds > 0 ? total / seconds : 0,
+                latencies.percentile(0.50) / 1000.0, latencies.percentile(0.99) / 1000.0,
+                latencies.percentile(0.999) / 1000.0, succeeded.sum(), rate(conflicts.sum(), total),
+                rate(busy.sum(), total), rate(errors.sum(), total));
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    record Summary(String endpoint,
+                   long requests,
+                   double throughputPerSecond,
+                   double p50Millis,
+                   double p99Millis,
+                   double p999Millis,
+                   long succeeded,
+                   double conflictRate,
+                   double busyRate,
+                   double errorRate) {
+    }
+}
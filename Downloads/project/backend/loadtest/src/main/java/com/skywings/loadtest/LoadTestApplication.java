@@ -0,0 +1,30 @@
+package com.skywings.loadtest;
+
+import com.skywings.AirlineReservationApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+/**
+ * Boots the real backend on a random port against in-memory H2 (profile
+ * {@code loadtest}), runs the load scenarios through its controllers and exits.
+ * Any {@code loadtest.*} property can be overridden on the command line, e.g.
+ * {@code --loadtest.run=booking-rush --loadtest.concurrency=200}. With
+ * {@code --loadtest.thread-modes=platform,virtual} the same run is repeated once
+ * per request-thread mode (see {@link ThreadModeComparison}).
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        String threadModes = new SimpleCommandLinePropertySource(args).getProperty("loadtest.thread-modes");
+        if (threadModes != null && !threadModes.isBlank()) {
+            System.exit(ThreadModeComparison.run(args, threadModes));
+        }
+        SpringApplication application = new SpringApplication(AirlineReservationApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        ConfigurableApplicationContext context = application.run(args);
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        int status = context.getBean(LoadTestHarness.class).run(port);
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,261 @@
+package com.skywings.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skywings.cache.CacheStats;
+import com.skywings.dto.BookingSweepStats;
+import com.skywings.service.BookingExpirySweeper;
+import com.skywings.service.FlightService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds the embedded database, then runs each configured scenario in turn
+ * against the app's own HTTP port: a warmup window whose numbers are thrown
+ * away, then a measured window. Each worker thread plays one signed-in user
+ * and picks actions from the scenario's weighted mix. Results are printed and
+ * written as JSON per scenario, once per configured concurrency level. The run
+ * fails if seats, bookings and flight counters disagree at the end.
+ */
+@Component
+public class LoadTestHarness {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    @Autowired
+    private LoadTestSeeder seeder;
+
+    @Autowired
+    private Map<String, Action> actions;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private BookingExpirySweeper bookingExpirySweeper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.flights:200}")
+    private int flights;
+
+    @Value("${loadtest.users:500}")
+    private int users;
+
+    @Value("${loadtest.password:loadtest123}")
+    private String password;
+
+    @Value("${loadtest.concurrency:32}")
+    private int concurrency;
+
+    // Runs every scenario at each level in turn instead of at loadtest.concurrency
+    @Value("${loadtest.concurrency-levels:}")
+    private List<Integer> concurrencyLevels;
+
+    @Value("${loadtest.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.report-dir:target/loadtest}")
+    private String reportDir;
+
+    @Value("${loadtest.run:}")
+    private List<String> run;
+
+    record ScenarioReport(String scenario, int concurrency, double seconds, List<EndpointStats.Summary> endpoints,
+                          SearchCacheCounts searchCache) {
+    }
+
+    /**
+     * Search cache activity during the measured window, read in-process.
+     *
+     * @param lookups   searches that reached the cache
+     * @param queries   searches that ran against the database
+     * @param coalesced searches that waited on another caller's identical query
+     */
+    record SearchCacheCounts(long lookups, long queries, long coalesced) {
+
+        static SearchCacheCounts between(CacheStats before, CacheStats after) {
+            return new SearchCacheCounts(
+                    after.hits() + after.staleHits() + after.misses()
+                            - before.hits() - before.staleHits() - before.misses(),
+                    after.loads() - before.loads(),
+                    after.coalescedLoads() - before.coalescedLoads());
+        }
+    }
+
+    public int run(int port) throws IOException, InterruptedException {
+        Map<String, String> specs = Binder.get(environment)
+                .bind("loadtest.scenarios", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : run.isEmpty() ? List.copyOf(specs.keySet()) : run) {
+            String spec = specs.get(name.trim());
+            if (spec == null) {
+                logger.error("Unknown scenario '{}'; defined scenarios: {}", name, specs.keySet());
+                return 2;
+            }
+            scenarios.add(Scenario.parse(name.trim(), spec, actions.keySet()));
+        }
+
+        List<Integer> levels = concurrencyLevels.isEmpty() ? List.of(concurrency) : concurrencyLevels;
+
+        SeedData data = seeder.seed(flights, users, password, seed);
+        LoadClient client = new LoadClient("http://localhost:" + port, objectMapper);
+        Files.createDirectories(Path.of(reportDir));
+        for (Scenario scenario : scenarios) {
+            for (int level : levels) {
+                List<VirtualUser> virtualUsers = signIn(client, data, scenario, level);
+                client.reset();
+                drive(scenario, virtualUsers, warmupSeconds);
+                client.reset();
+                CacheStats before = flightService.getSearchCacheStats();
+                long started = System.nanoTime();
+                drive(scenario, virtualUsers, durationSeconds);
+                double seconds = (System.nanoTime() - started) / 1e9;
+                SearchCacheCounts searchCache = SearchCacheCounts.between(before,
+                        flightService.getSearchCacheStats());
+                report(new ScenarioReport(scenario.name(), level, seconds, client.reset().entrySet().stream()
+                        .map(entry -> entry.getValue().summarize(entry.getKey(), seconds))
+                        .sorted(Comparator.comparing(EndpointStats.Summary::endpoint))
+                        .toList(), searchCache), levels.size() > 1);
+            }
+        }
+        BookingSweepStats sweeps = bookingExpirySweeper.getStats();
+        logger.info("Expiry sweeper: {} runs, {} bookings expired, {} seats reclaimed, slowest run {} ms",
+                sweeps.runs(), sweeps.totalCancelled(), sweeps.totalSeatsReclaimed(), sweeps.maxRunMillis());
+        return checkConsistency();
+    }
+
+    // Every count must be zero once the clients have stopped
+    private int checkConsistency() {
+        Map<String, String> checks = Map.of(
+                "seats with more than one live booking",
+                "SELECT COUNT(*) FROM (SELECT seat_id FROM bookings WHERE status <> 'CANCELLED' " +
+                "GROUP BY seat_id HAVING COUNT(*) > 1) t",
+                "occupied seats without a live booking",
+                "SELECT COUNT(*) FROM seats s WHERE s.status = 'OCCUPIED' AND NOT EXISTS " +
+                "(SELECT 1 FROM bookings b WHERE b.seat_id = s.id AND b.status <> 'CANCELLED')",
+                "flights whose available_seats differs from their free seats",
+                "SELECT COUNT(*) FROM flights f WHERE f.available_seats <> " +
+                "(SELECT COUNT(*) FROM seats s WHERE s.flight_id = f.id AND s.status = 'AVAILABLE')");
+        int status = 0;
+        for (Map.Entry<String, String> check : checks.entrySet()) {
+            long count = jdbcTemplate.queryForObject(check.getValue(), Long.class);
+            if (count > 0) {
+                logger.error("Inconsistent data after the run: {} {}", count, check.getKey());
+                status = 1;
+            }
+        }
+        if (status == 0) {
+            logger.info("Seats, bookings and flight counters are consistent");
+        }
+        return status;
+    }
+
+    private List<VirtualUser> signIn(LoadClient client, SeedData data, Scenario scenario, int level) {
+        List<VirtualUser> virtualUsers = new ArrayList<>(level);
+        SplittableRandom random = new SplittableRandom(seed ^ scenario.name().hashCode());
+        for (int i = 0; i < level; i++) {
+            String email = data.emails().get(i % data.emails().size());
+            LoadClient.Response response = client.post(StandardActions.SIGNIN, "/api/auth/signin",
+                    Map.of("email", email, "password", data.password()), null);
+            JsonNode token = response.body() == null ? null : response.body().get("accessToken");
+            if (token == null) {
+                throw new IllegalStateException("Sign-in for " + email + " failed with HTTP " + response.status());
+            }
+            virtualUsers.add(new VirtualUser(client, data, random.split(), email, token.asText()));
+        }
+        return virtualUsers;
+    }
+
+    private void drive(Scenario scenario, List<VirtualUser> virtualUsers, int seconds) throws InterruptedException {
+        if (seconds <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicLong failures = new AtomicLong();
+        ExecutorService workers = Executors.newFixedThreadPool(virtualUsers.size());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (VirtualUser user : virtualUsers) {
+                running.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            actions.get(scenario.pick(user.getRandom())).perform(user);
+                        } catch (RuntimeException e) {
+                            if (failures.getAndIncrement() == 0) {
+                                logger.warn("Action failed in scenario {}", scenario.name(), e);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : running) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    logger.warn("Worker died in scenario {}", scenario.name(), e.getCause());
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        if (failures.get() > 0) {
+            logger.warn("{} actions threw in scenario {}", failures.get(), scenario.name());
+        }
+    }
+
+    private void report(ScenarioReport report, boolean perLevel) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%nScenario %s: %d users, %.1f s%n",
+                report.scenario(), report.concurrency(), report.seconds()));
+        table.append(String.format("%-34s %9s %9s %9s %9s %9s %8s %8s %8s%n", "endpoint", "requests", "req/s",
+                "p50 ms", "p99 ms", "p999 ms", "409 %", "503 %", "error %"));
+        for (EndpointStats.Summary row : report.endpoints()) {
+            table.append(String.format("%-34s %9d %9.1f %9.2f %9.2f %9.2f %8.2f %8.2f %8.2f%n", row.endpoint(),
+                    row.requests(), row.throughputPerSecond(), row.p50Millis(), row.p99Millis(), row.p999Millis(),
+                    row.conflictRate() * 100, row.busyRate() * 100, row.errorRate() * 100));
+        }
+        SearchCacheCounts searchCache = report.searchCache();
+        table.append(String.format("search cache: %d lookups, %d database queries, %d coalesced%n",
+                searchCache.lookups(), searchCache.queries(), searchCache.coalesced()));
+        logger.info(table.toString());
+        String name = perLevel ? report.scenario() + "-" + report.concurrency() : report.scenario();
+        Path file = Path.of(reportDir, name + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        logger.info("Wrote {}", file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,120 @@
+package com.skywings.loadtest;
+
+import com.skywings.dto.FlightImportResult;
+import com.skywings.service.BookingAnalyticsService;
+import com.skywings.service.FlightImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds flights through the regular bulk import (so seats and counters are
+ * built exactly as in production) and users through a JDBC batch sharing one
+ * password hash.
+ */
+@Component
+public class LoadTestSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestSeeder.class);
+    private static final List<String> CITIES = List.of("New York (JFK)", "Los Angeles (LAX)", "Chicago (ORD)",
+            "Miami (MIA)", "Boston (BOS)", "San Francisco (SFO)", "Seattle (SEA)", "Atlanta (ATL)",
+            "London (LHR)", "Paris (CDG)");
+    private static final List<String> AIRCRAFT = List.of("Airbus A320", "Boeing 737", "Boeing 787");
+    private static final String INSERT_USER =
+            "INSERT INTO users (email, password, first_name, last_name, role, loyalty_tier, total_flights, " +
+            "token_epoch, member_since) VALUES (?, ?, ?, ?, 'USER', ?, ?, 0, ?)";
+
+    @Autowired
+    private FlightImportService flightImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    public SeedData seed(int flights, int users, String password, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long started = System.currentTimeMillis();
+
+        StringBuilder csv = new StringBuilder(
+                "flightNumber,airline,origin,destination,aircraft,departureTime,arrivalTime,price\n");
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        for (int i = 1; i <= flights; i++) {
+            String origin = CITIES.get(random.nextInt(CITIES.size()));
+            String destination = CITIES.get(random.nextInt(CITIES.size()));
+            while (destination.equals(origin)) {
+                destination = CITIES.get(random.nextInt(CITIES.size()));
+            }
+            LocalDateTime departure = base.plusDays(1 + random.nextInt(60)).plusHours(random.nextInt(24));
+            csv.append(String.format("LT%05d,SkyWings,%s,%s,%s,%s,%s,%s\n", i, origin, destination,
+                    AIRCRAFT.get(random.nextInt(AIRCRAFT.size())), departure,
+                    departure.plusMinutes(60 + random.nextInt(600)),
+                    BigDecimal.valueOf(9900 + random.nextInt(90000), 2)));
+        }
+        FlightImportResult imported = flightImportService.importSchedule(new StringReader(csv.toString()),
+                FlightImportService.Format.CSV);
+        if (imported.failed() > 0) {
+            throw new IllegalStateException("Seeding flights failed: " + imported.errors());
+        }
+
+        String hash = passwordEncoder.encode(password);
+        List<String> emails = new ArrayList<>(users);
+        List<Object[]> rows = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            String email = "loadtest" + i + "@skywings.com";
+            emails.add(email);
+            // Mostly BRONZE, with flight counts matching each tier's threshold
+            int tier = random.nextInt(100);
+            String loyaltyTier = tier < 70 ? "BRONZE" : tier < 90 ? "SILVER" : tier < 98 ? "GOLD" : "PLATINUM";
+            int totalFlights = tier < 70 ? random.nextInt(10) : tier < 90 ? 10 + random.nextInt(15)
+                    : tier < 98 ? 25 + random.nextInt(25) : 50 + random.nextInt(50);
+            rows.add(new Object[] {email, hash, "Load", "User" + i, loyaltyTier, totalFlights, LocalDateTime.now()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, rows);
+        bookingAnalyticsService.rebuild();
+
+        List<Long> flightIds = jdbcTemplate.queryForList(
+                "SELECT id FROM flights WHERE flight_number LIKE 'LT%' ORDER BY flight_number", Long.class);
+        Map<Long, List<Long>> seatsByFlight = new HashMap<>();
+        jdbcTemplate.query("SELECT flight_id, id FROM seats ORDER BY flight_id, id",
+                (RowCallbackHandler) rs ->
+                        seatsByFlight.computeIfAbsent(rs.getLong(1), f -> new ArrayList<>()).add(rs.getLong(2)));
+        Map<Long, long[]> seatIds = new HashMap<>();
+        for (Long flightId : flightIds) {
+            seatIds.put(flightId, seatsByFlight.getOrDefault(flightId, List.of()).stream()
+                    .mapToLong(Long::longValue).toArray());
+        }
+
+        SeedData.Route hotRoute = jdbcTemplate.queryForObject(
+                "SELECT origin, destination, departure_time FROM flights WHERE id = ?",
+                (rs, row) -> new SeedData.Route(cityName(rs.getString(1)), cityName(rs.getString(2)),
+                        rs.getTimestamp(3).toLocalDateTime().toLocalDate()),
+                flightIds.get(0));
+
+        logger.info("Seeded {} flights and {} users in {} ms", flightIds.size(), users,
+                System.currentTimeMillis() - started);
+        return new SeedData(flightIds, seatIds, emails, password,
+                CITIES.stream().map(LoadTestSeeder::cityName).toList(), hotRoute);
+    }
+
+    private static String cityName(String place) {
+        return place.substring(0, place.indexOf(" (")).trim();
+    }
+}
@@ -0,0 +1,50 @@
+package com.skywings.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * A named weighted mix of actions, written as {@code action:weight,action:weight}.
+ */
+record Scenario(String name, List<String> actions, int[] cumulativeWeights) {
+
+    static Scenario parse(String name, String spec, Set<String> knownActions) {
+        List<String> actions = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] entry = part.trim().split(":");
+            String action = entry[0].trim();
+            if (!knownActions.contains(action)) {
+                throw new IllegalArgumentException("Scenario " + name + " uses unknown action '" + action
+                        + "'; known actions: " + knownActions);
+            }
+            int weight = entry.length > 1 ? Integer.parseInt(entry[1].trim()) : 1;
+            if (weight > 0) {
+                actions.add(action);
+                weights.add(weight);
+            }
+        }
+        if (actions.isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + name + " has no actions");
+        }
+        int[] cumulative = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            total += weights.get(i);
+            cumulative[i] = total;
+        }
+        return new Scenario(name, actions, cumulative);
+    }
+
+    String pick(SplittableRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return actions.get(i);
+            }
+        }
+        return actions.get(actions.size() - 1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.skywings.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the seeder created, for actions to pick targets from.
+ *
+ * @param flightIds all seeded flights; the first is the hot flight
+ * @param seatIds   seat ids of each seeded flight
+ * @param hotRoute  the hot flight's route and departure day, for identical searches
+ */
+public record SeedData(List<Long> flightIds,
+                       Map<Long, long[]> seatIds,
+                       List<String> emails,
+                       String password,
+                       List<String> cities,
+                       Route hotRoute) {
+
+    public record Route(String origin, String destination, LocalDate departureDay) {
+    }
+
+    public long hotFlightId() {
+        return flightIds.get(0);
+    }
+}
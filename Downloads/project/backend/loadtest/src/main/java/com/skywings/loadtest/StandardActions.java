@@ -0,0 +1,107 @@
+package com.skywings.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The built-in actions. Each bean name is what scenario mixes refer to;
+ * declare another {@link Action} bean to make a new one available.
+ */
+@Configuration
+public class StandardActions {
+    static final String SIGNIN = "POST /api/auth/signin";
+    static final String SEARCH = "POST /api/flights/search";
+    static final String SEARCH_HOT = "POST /api/flights/search (hot route)";
+    static final String FLIGHT_SEATS = "GET /api/flights/{id}/seats";
+    static final String BOOK = "POST /api/bookings";
+    static final String BOOK_HOT = "POST /api/bookings (hot flight)";
+    static final String CANCEL = "DELETE /api/bookings/{id}";
+
+    @Bean("search")
+    public Action search() {
+        return user -> {
+            String origin = user.pick(user.getSeed().cities());
+            String destination = user.pick(user.getSeed().cities());
+            Map<String, Object> request = new HashMap<>();
+            request.put("origin", origin);
+            request.put("destination", destination);
+            request.put("departureDate", LocalDate.now().plusDays(1 + user.getRandom().nextInt(60)).atStartOfDay());
+            request.put("passengers", 1);
+            user.getClient().post(SEARCH, "/api/flights/search", request, user.getToken());
+        };
+    }
+
+    // Everyone asks for the hot flight's route and day, so cache misses coalesce into one query
+    @Bean("search-hot")
+    public Action searchHot() {
+        return user -> {
+            SeedData.Route route = user.getSeed().hotRoute();
+            Map<String, Object> request = new HashMap<>();
+            request.put("origin", route.origin());
+            request.put("destination", route.destination());
+            request.put("departureDate", route.departureDay().atStartOfDay());
+            request.put("passengers", 1);
+            user.getClient().post(SEARCH_HOT, "/api/flights/search", request, user.getToken());
+        };
+    }
+
+    @Bean("flight-seats")
+    public Action flightSeats() {
+        return user -> {
+            long flightId = user.getRandom().nextInt(4) == 0
+                    ? user.getSeed().hotFlightId()
+                    : user.pick(user.getSeed().flightIds());
+            user.getClient().get(FLIGHT_SEATS, "/api/flights/" + flightId + "/seats", user.getToken());
+        };
+    }
+
+    @Bean("book")
+    public Action book() {
+        return user -> book(user, user.pick(user.getSeed().flightIds()), BOOK);
+    }
+
+    // Everyone goes for seats on the same flight, so most attempts lose the seat claim (409)
+    @Bean("book-hot")
+    public Action bookHot() {
+        return user -> book(user, user.getSeed().hotFlightId(), BOOK_HOT);
+    }
+
+    @Bean("cancel")
+    public Action cancel() {
+        return user -> {
+            if (user.getBookingIds().isEmpty()) {
+                book(user, user.pick(user.getSeed().flightIds()), BOOK);
+            }
+            Long bookingId = user.getBookingIds().pollFirst();
+            if (bookingId != null) {
+                user.getClient().delete(CANCEL, "/api/bookings/" + bookingId, user.getToken());
+            }
+        };
+    }
+
+    // Password checks run on the bounded BCrypt pool, so storms show up as 503s
+    @Bean("login")
+    public Action login() {
+        return user -> user.getClient().post(SIGNIN, "/api/auth/signin",
+                Map.of("email", user.pick(user.getSeed().emails()), "password", user.getSeed().password()), null);
+    }
+
+    private static void book(VirtualUser user, long flightId, String endpoint) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("flightId", flightId);
+        request.put("seatId", user.pickSeat(flightId));
+        request.put("passengerName", "Load Test");
+        request.put("baggageWeight", 15 + user.getRandom().nextInt(20));
+        request.put("isBlocking", user.getRandom().nextInt(4) == 0);
+        LoadClient.Response response = user.getClient().post(endpoint, "/api/bookings", request, user.getToken());
+        JsonNode id = response.isOk() && response.body() != null ? response.body().get("id") : null;
+        if (id != null) {
+            user.getBookingIds().addLast(id.asLong());
+        }
+    }
+}
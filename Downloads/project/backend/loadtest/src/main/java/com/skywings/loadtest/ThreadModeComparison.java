@@ -0,0 +1,139 @@
+package com.skywings.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Runs the configured scenarios once per request-thread mode, each in its own
+ * JVM (so the later run does not inherit the earlier one's JIT warmup) writing
+ * to its own report directory, then prints throughput and p99 per endpoint side
+ * by side. Virtual threads need JDK 21; on an older JDK Spring Boot ignores the
+ * setting and the "virtual" run uses platform threads, which is logged up front.
+ */
+final class ThreadModeComparison {
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModeComparison.class);
+    private static final List<String> MODES = List.of("platform", "virtual");
+
+    private ThreadModeComparison() {
+    }
+
+    static int run(String[] args, String threadModes) throws Exception {
+        List<String> modes = Arrays.stream(threadModes.split(",")).map(String::trim)
+                .filter(mode -> !mode.isEmpty()).toList();
+        for (String mode : modes) {
+            if (!MODES.contains(mode)) {
+                logger.error("Unknown thread mode '{}'; expected one of {}", mode, MODES);
+                return 2;
+            }
+        }
+        if (modes.contains("virtual") && Runtime.version().feature() < 21) {
+            logger.warn("Virtual threads need JDK 21 or later and this is JDK {}; the virtual run will use " +
+                    "platform threads", Runtime.version().feature());
+        }
+
+        String reportDir = new SimpleCommandLinePropertySource(args).getProperty("loadtest.report-dir");
+        Path baseDir = Path.of(reportDir == null ? "target/loadtest" : reportDir);
+        for (String mode : modes) {
+            List<String> command = javaCommand();
+            for (String arg : args) {
+                if (!arg.startsWith("--loadtest.report-dir=") && !arg.startsWith("--loadtest.thread-modes=")) {
+                    command.add(arg);
+                }
+            }
+            Path modeDir = baseDir.resolve(mode);
+            // Reports left by an earlier comparison of other scenarios would be compared too
+            if (Files.isDirectory(modeDir)) {
+                try (Stream<Path> files = Files.list(modeDir)) {
+                    for (Path file : files.filter(f -> f.toString().endsWith(".json")).toList()) {
+                        Files.delete(file);
+                    }
+                }
+            }
+            command.add("--loadtest.report-dir=" + modeDir);
+            if ("virtual".equals(mode)) {
+                command.add("--spring.profiles.active=virtual");
+            }
+            logger.info("Load test with {} request threads", mode);
+            int status = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if (status != 0) {
+                return status;
+            }
+        }
+        logger.info(compare(baseDir, modes));
+        return 0;
+    }
+
+    // This JVM's launcher, options and classpath, so a child run behaves like a direct one
+    private static List<String> javaCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        String classPath = System.getProperty("java.class.path");
+        if (classPath.endsWith(".jar") && !classPath.contains(File.pathSeparator)) {
+            command.add("-jar");
+            command.add(classPath);
+        } else {
+            command.add("-cp");
+            command.add(classPath);
+            command.add(LoadTestApplication.class.getName());
+        }
+        return command;
+    }
+
+    private static String compare(Path baseDir, List<String> modes) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        // report file -> mode -> report
+        Map<String, Map<String, LoadTestHarness.ScenarioReport>> reports = new TreeMap<>();
+        for (String mode : modes) {
+            try (Stream<Path> files = Files.list(baseDir.resolve(mode))) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".json")).toList()) {
+                    reports.computeIfAbsent(file.getFileName().toString(), name -> new LinkedHashMap<>())
+                            .put(mode, objectMapper.readValue(file.toFile(), LoadTestHarness.ScenarioReport.class));
+                }
+            }
+        }
+
+        StringBuilder table = new StringBuilder(String.format("%nThread modes compared%n%-20s %7s %-38s",
+                "scenario", "clients", "endpoint"));
+        for (String mode : modes) {
+            table.append(String.format(" %14s %10s", mode + " req/s", "p99 ms"));
+        }
+        table.append(String.format("%n"));
+        for (Map<String, LoadTestHarness.ScenarioReport> byMode : reports.values()) {
+            LoadTestHarness.ScenarioReport first = byMode.values().iterator().next();
+            for (EndpointStats.Summary endpoint : first.endpoints()) {
+                table.append(String.format("%-20s %7d %-38s", first.scenario(), first.concurrency(),
+                        endpoint.endpoint()));
+                for (String mode : modes) {
+                    EndpointStats.Summary row = find(byMode.get(mode), endpoint.endpoint());
+                    table.append(row == null ? String.format(" %14s %10s", "-", "-")
+                            : String.format(" %14.1f %10.2f", row.throughputPerSecond(), row.p99Millis()));
+                }
+                table.append(String.format("%n"));
+            }
+        }
+        return table.toString();
+    }
+
+    private static EndpointStats.Summary find(LoadTestHarness.ScenarioReport report, String endpoint) {
+        if (report == null) {
+            return null;
+        }
+        return report.endpoints().stream().filter(row -> row.endpoint().equals(endpoint)).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,48 @@
+package com.skywings.loadtest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One signed-in client driven by one worker thread; not shared between threads.
+ */
+public final class VirtualUser {
+    private final LoadClient client;
+    private final SeedData seed;
+    private final SplittableRandom random;
+    private final String email;
+    private final String token;
+    private final Deque<Long> bookingIds = new ArrayDeque<>();
+
+    VirtualUser(LoadClient client, SeedData seed, SplittableRandom random, String email, String token) {
+        this.client = client;
+        this.seed = seed;
+        this.random = random;
+        this.email = email;
+        this.token = token;
+    }
+
+    public LoadClient getClient() { return client; }
+
+    public SeedData getSeed() { return seed; }
+
+    public SplittableRandom getRandom() { return random; }
+
+    public String getEmail() { return email; }
+
+    public String getToken() { return token; }
+
+    // Bookings this user made and has not cancelled yet
+    public Deque<Long> getBookingIds() { return bookingIds; }
+
+    public <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    public long pickSeat(long flightId) {
+        long[] seats = seed.seatIds().get(flightId);
+        return seats[random.nextInt(seats.length)];
+    }
+}
@@ -0,0 +1,141 @@
+package com.skywings.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column-oriented copy of the bookings table for ad-hoc admin queries.
+ * Every dimension is dictionary-encoded into an {@code int[]} of codes and every
+ * measure is a {@code long[]} of cents, so a row costs about 68 bytes and a scan
+ * touches only the columns a query uses.
+ */
+public final class BookingSnapshot {
+
+    public enum Dimension {
+        AIRLINE, ROUTE, CABIN, TIER, STATUS, BOOKING_MONTH, DEPARTURE_MONTH
+    }
+
+    public enum Measure {
+        TOTAL_AMOUNT, PAID_AMOUNT, REMAINING_AMOUNT, BAGGAGE_CHARGES, DISCOUNT_AMOUNT
+    }
+
+    private final int size;
+    private final int[][] dimensions;
+    private final String[][] dictionaries;
+    private final long[][] measures;
+    private final LocalDateTime takenAt;
+
+    private BookingSnapshot(int size, int[][] dimensions, String[][] dictionaries, long[][] measures,
+                            LocalDateTime takenAt) {
+        this.size = size;
+        this.dimensions = dimensions;
+        this.dictionaries = dictionaries;
+        this.measures = measures;
+        this.takenAt = takenAt;
+    }
+
+    public int size() { return size; }
+
+    public LocalDateTime getTakenAt() { return takenAt; }
+
+    int[] codes(Dimension dimension) { return dimensions[dimension.ordinal()]; }
+
+    long[] cents(Measure measure) { return measures[measure.ordinal()]; }
+
+    public int cardinality(Dimension dimension) { return dictionaries[dimension.ordinal()].length; }
+
+    public String value(Dimension dimension, int code) { return dictionaries[dimension.ordinal()][code]; }
+
+    public int codeOf(Dimension dimension, String value) {
+        String[] values = dictionaries[dimension.ordinal()];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equalsIgnoreCase(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static Builder builder() {
+        return builder(1024);
+    }
+
+    /**
+     * A builder with room for {@code expectedRows} bookings, so a good estimate
+     * avoids both regrowing the columns and trimming them in {@link Builder#build()}.
+     */
+    public static Builder builder(int expectedRows) {
+        return new Builder(Math.max(1, expectedRows));
+    }
+
+    public static final class Builder {
+        private static final int DIMENSIONS = Dimension.values().length;
+        private static final int MEASURES = Measure.values().length;
+
+        private int size;
+        private final int[][] dimensions;
+        private final long[][] measures;
+        private final List<Map<String, Integer>> codes = new ArrayList<>();
+        private final List<List<String>> values = new ArrayList<>();
+
+        private Builder(int capacity) {
+            dimensions = new int[DIMENSIONS][capacity];
+            measures = new long[MEASURES][capacity];
+            for (int i = 0; i < DIMENSIONS; i++) {
+                codes.add(new HashMap<>());
+                values.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Appends one booking; {@code dimensionValues} and {@code measureCents} are in
+         * {@link Dimension} and {@link Measure} order.
+         */
+        public void add(String[] dimensionValues, long[] measureCents) {
+            if (size == dimensions[0].length) {
+                resize(size + (size >> 1) + 1);
+            }
+            for (int i = 0; i < DIMENSIONS; i++) {
+                String value = dimensionValues[i] == null ? "" : dimensionValues[i];
+                List<String> dictionary = values.get(i);
+                dimensions[i][size] = codes.get(i).computeIfAbsent(value, v -> {
+                    dictionary.add(v);
+                    return dictionary.size() - 1;
+                });
+            }
+            for (int i = 0; i < MEASURES; i++) {
+                measures[i][size] = measureCents[i];
+            }
+            size++;
+        }
+
+        /**
+         * Hands the columns to the snapshot, trimmed to size if there is spare room.
+         * The builder must not be used afterwards.
+         */
+        public BookingSnapshot build() {
+            if (size < dimensions[0].length) {
+                resize(size);
+            }
+            String[][] dictionaries = new String[DIMENSIONS][];
+            for (int i = 0; i < DIMENSIONS; i++) {
+                dictionaries[i] = values.get(i).toArray(new String[0]);
+            }
+            return new BookingSnapshot(size, dimensions, dictionaries, measures, LocalDateTime.now());
+        }
+
+        // One column at a time, so at most one column is held twice while copying
+        private void resize(int capacity) {
+            for (int i = 0; i < DIMENSIONS; i++) {
+                dimensions[i] = Arrays.copyOf(dimensions[i], capacity);
+            }
+            for (int i = 0; i < MEASURES; i++) {
+                measures[i] = Arrays.copyOf(measures[i], capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.skywings.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Filter / group-by / sum over a {@link BookingSnapshot}. Filters are resolved
+ * once against the dictionaries into per-code lookup tables, so the scan only
+ * compares ints; the row range is split into fork-join leaves whose partial
+ * aggregates are merged on join. Group keys are the mixed-radix combination of
+ * the grouped dimensions' codes and accumulate into a flat array when the key
+ * space is small, or a map otherwise.
+ */
+public final class SnapshotQuery {
+    private static final int LEAF_ROWS = 1 << 18;
+    private static final long DENSE_GROUPS = 1 << 12;
+
+    private final int[][] filterCodes;
+    private final boolean[][] filterAllowed;
+    private final int[][] groupCodes;
+    private final long[] radix;
+    private final long groupCount;
+    private final long[][] measureCents;
+    private final int width;
+
+    public record Group(int[] codes, long count, long[] sums) {
+    }
+
+    public record Result(long matched, List<Group> groups) {
+    }
+
+    private SnapshotQuery(BookingSnapshot snapshot, Map<BookingSnapshot.Dimension, Predicate<String>> filters,
+                          List<BookingSnapshot.Dimension> groupBy, List<BookingSnapshot.Measure> measures) {
+        this.filterCodes = new int[filters.size()][];
+        this.filterAllowed = new boolean[filters.size()][];
+        int f = 0;
+        for (Map.Entry<BookingSnapshot.Dimension, Predicate<String>> filter : filters.entrySet()) {
+            BookingSnapshot.Dimension dimension = filter.getKey();
+            boolean[] allowed = new boolean[snapshot.cardinality(dimension)];
+            for (int code = 0; code < allowed.length; code++) {
+                allowed[code] = filter.getValue().test(snapshot.value(dimension, code));
+            }
+            filterCodes[f] = snapshot.codes(dimension);
+            filterAllowed[f++] = allowed;
+        }
+
+        this.groupCodes = new int[groupBy.size()][];
+        this.radix = new long[groupBy.size()];
+        long groups = 1;
+        for (int g = 0; g < groupBy.size(); g++) {
+            groupCodes[g] = snapshot.codes(groupBy.get(g));
+            radix[g] = Math.max(1, snapshot.cardinality(groupBy.get(g)));
+            groups = Math.multiplyExact(groups, radix[g]);
+        }
+        this.groupCount = groups;
+
+        this.measureCents = new long[measures.size()][];
+        for (int m = 0; m < measures.size(); m++) {
+            measureCents[m] = snapshot.cents(measures.get(m));
+        }
+        this.width = 1 + measures.size();
+    }
+
+    /**
+     * @throws ArithmeticException when the grouped dimensions have too many value combinations
+     */
+    public static Result run(BookingSnapshot snapshot, Map<BookingSnapshot.Dimension, Predicate<String>> filters,
+                             List<BookingSnapshot.Dimension> groupBy, List<BookingSnapshot.Measure> measures,
+                             ForkJoinPool pool) {
+        SnapshotQuery query = new SnapshotQuery(snapshot, filters, groupBy, measures);
+        Partial total = pool.invoke(query.new ScanTask(0, snapshot.size()));
+        return new Result(total.matched, query.groups(total));
+    }
+
+    private Partial scan(int from, int to) {
+        Partial partial = new Partial(groupCount <= DENSE_GROUPS ? new long[(int) groupCount * width] : null);
+        rows:
+        for (int row = from; row < to; row++) {
+            for (int f = 0; f < filterCodes.length; f++) {
+                if (!filterAllowed[f][filterCodes[f][row]]) {
+                    continue rows;
+                }
+            }
+            long key = 0;
+            for (int g = 0; g < groupCodes.length; g++) {
+                key = key * radix[g] + groupCodes[g][row];
+            }
+            long[] accumulator;
+            int base;
+            if (partial.dense != null) {
+                accumulator = partial.dense;
+                base = (int) key * width;
+            } else {
+                accumulator = partial.sparse.computeIfAbsent(key, k -> new long[width]);
+                base = 0;
+            }
+            accumulator[base]++;
+            for (int m = 0; m < measureCents.length; m++) {
+                accumulator[base + 1 + m] += measureCents[m][row];
+            }
+            partial.matched++;
+        }
+        return partial;
+    }
+
+    private List<Group> groups(Partial total) {
+        List<Group> groups = new ArrayList<>();
+        if (total.dense != null) {
+            for (long key = 0; key < groupCount; key++) {
+                int base = (int) key * width;
+                if (total.dense[base] > 0) {
+                    groups.add(group(key, total.dense, base));
+                }
+            }
+        } else {
+            total.sparse.forEach((key, accumulator) -> groups.add(group(key, accumulator, 0)));
+        }
+        return groups;
+    }
+
+    private Group group(long key, long[] accumulator, int base) {
+        int[] codes = new int[groupCodes.length];
+        for (int g = codes.length - 1; g >= 0; g--) {
+            codes[g] = (int) (key % radix[g]);
+            key /= radix[g];
+        }
+        long[] sums = new long[width - 1];
+        System.arraycopy(accumulator, base + 1, sums, 0, sums.length);
+        return new Group(codes, accumulator[base], sums);
+    }
+
+    private static final class Partial {
+        private final long[] dense;
+        private final Map<Long, long[]> sparse;
+        private long matched;
+
+        Partial(long[] dense) {
+            this.dense = dense;
+            this.sparse = dense == null ? new HashMap<>() : null;
+        }
+
+        Partial merge(Partial other) {
+            matched += other.matched;
+            if (dense != null) {
+                for (int i = 0; i < dense.length; i++) {
+                    dense[i] += other.dense[i];
+                }
+            } else {
+                other.sparse.forEach((key, values) -> sparse.merge(key, values, (a, b) -> {
+                    for (int i = 0; i < a.length; i++) {
+                        a[i] += b[i];
+                    }
+                    return a;
+                }));
+            }
+            return this;
+        }
+    }
+
+    private final class ScanTask extends RecursiveTask<Partial> {
+        private final int from;
+        private final int to;
+
+        ScanTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= LEAF_ROWS) {
+                return scan(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(from, mid);
+            left.fork();
+            Partial right = new ScanTask(mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.skywings.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Size-bounded LRU cache with a time-to-live. When a stale window and a refresh
+ * executor are given, entries past their TTL but inside the window are still
+ * served while a single background reload replaces them (stale-while-revalidate).
+ * Concurrent misses for the same key share one load. A load that overlaps an
+ * invalidation of its own key is returned to its callers but not cached.
+ * An optional indexer tags each key so {@link #invalidateIf(Collection, Predicate)}
+ * only tests the keys filed under the given tags instead of scanning the cache.
+ */
+public class BoundedCache<K, V> {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final Executor refreshExecutor;
+    private final Function<? super K, ? extends Collection<?>> indexer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<Object, Set<K>> index = new HashMap<>();
+    // One per running load (SingleFlight allows one per key); flagged when its key is invalidated
+    private final Map<K, PendingLoad> pending = new HashMap<>();
+    private final SingleFlight<K, V> loads = new SingleFlight<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public BoundedCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, 0, null);
+    }
+
+    public BoundedCache(int maxSize, long ttlMillis, long staleMillis, Executor refreshExecutor) {
+        this(maxSize, ttlMillis, staleMillis, refreshExecutor, null);
+    }
+
+    public BoundedCache(int maxSize, long ttlMillis, long staleMillis, Executor refreshExecutor,
+                        Function<? super K, ? extends Collection<?>> indexer) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.staleMillis = refreshExecutor == null ? 0 : staleMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.indexer = indexer;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = lookup(key);
+        long now = System.currentTimeMillis();
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < ttlMillis) {
+                hits.increment();
+                return entry.value;
+            }
+            if (age < ttlMillis + staleMillis) {
+                staleHits.increment();
+                scheduleRefresh(key, entry, loader);
+                return entry.value;
+            }
+        }
+        misses.increment();
+        return load(key, loader);
+    }
+
+    public V getIfPresent(K key) {
+        Entry<V> entry = lookup(key);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAt >= ttlMillis) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        store(key, value, null);
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            cancelPending(key);
+            if (remove(key)) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateIf(Predicate<? super K> predicate) {
+        int removed = 0;
+        lock.lock();
+        try {
+            pending.forEach((key, load) -> {
+                if (predicate.test(key)) {
+                    load.invalidated = true;
+                }
+            });
+            Iterator<K> it = entries.keySet().iterator();
+            while (it.hasNext()) {
+                K key = it.next();
+                if (predicate.test(key)) {
+                    it.remove();
+                    unindex(key);
+                    removed++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        invalidations.add(removed);
+    }
+
+    /**
+     * Invalidates the keys filed under any of {@code tags} that match {@code predicate};
+     * keys under other tags are not looked at. Needs an indexer.
+     */
+    public void invalidateIf(Collection<?> tags, Predicate<? super K> predicate) {
+        if (indexer == null) {
+            throw new IllegalStateException("invalidateIf by tag needs a cache built with an indexer");
+        }
+        int removed = 0;
+        lock.lock();
+        try {
+            pending.forEach((key, load) -> {
+                if (!Collections.disjoint(indexer.apply(key), tags) && predicate.test(key)) {
+                    load.invalidated = true;
+                }
+            });
+            for (Object tag : tags) {
+                Set<K> keys = index.get(tag);
+                if (keys == null) {
+                    continue;
+                }
+                for (K key : new ArrayList<>(keys)) {
+                    if (predicate.test(key) && remove(key)) {
+                        removed++;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        invalidations.add(removed);
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            pending.values().forEach(load -> load.invalidated = true);
+            invalidations.add(entries.size());
+            entries.clear();
+            index.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(size(), hits.sum(), staleHits.sum(), misses.sum(), loads.executions(),
+                loads.coalesced(), evictions.sum(), invalidations.sum(), refreshes.sum(), loadFailures.sum());
+    }
+
+    private Entry<V> lookup(K key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        return loads.execute(key, k -> {
+            PendingLoad load = new PendingLoad();
+            lock.lock();
+            try {
+                pending.put(k, load);
+            } finally {
+                lock.unlock();
+            }
+            V value;
+            try {
+                value = loader.apply(k);
+            } catch (RuntimeException e) {
+                loadFailures.increment();
+                lock.lock();
+                try {
+                    pending.remove(k, load);
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+            store(k, value, load);
+            return value;
+        });
+    }
+
+    // load is null for put(), which supersedes any load of the key still running
+    private void store(K key, V value, PendingLoad load) {
+        lock.lock();
+        try {
+            if (load == null) {
+                cancelPending(key);
+            } else {
+                pending.remove(key, load);
+                if (load.invalidated) {
+                    return;
+                }
+            }
+            if (value == null) {
+                return;
+            }
+            if (entries.put(key, new Entry<>(value, System.currentTimeMillis())) == null && indexer != null) {
+                for (Object tag : indexer.apply(key)) {
+                    index.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+                }
+            }
+            Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                K evicted = it.next().getKey();
+                it.remove();
+                unindex(evicted);
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Callers hold the lock
+    private void cancelPending(K key) {
+        PendingLoad load = pending.get(key);
+        if (load != null) {
+            load.invalidated = true;
+        }
+    }
+
+    private boolean remove(K key) {
+        if (entries.remove(key) == null) {
+            return false;
+        }
+        unindex(key);
+        return true;
+    }
+
+    private void unindex(K key) {
+        if (indexer == null) {
+            return;
+        }
+        for (Object tag : indexer.apply(key)) {
+            Set<K> keys = index.get(tag);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                index.remove(tag);
+            }
+        }
+    }
+
+    private void scheduleRefresh(K key, Entry<V> entry, Function<? super K, ? extends V> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshes.increment();
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    // Keep serving the stale value; the next request past the window reloads inline
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static final class PendingLoad {
+        boolean invalidated;
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
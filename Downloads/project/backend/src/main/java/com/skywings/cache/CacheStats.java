@@ -0,0 +1,18 @@
+package com.skywings.cache;
+
+public record CacheStats(int size,
+                         long hits,
+                         long staleHits,
+                         long misses,
+                         long loads,
+                         long coalescedLoads,
+                         long evictions,
+                         long invalidations,
+                         long refreshes,
+                         long loadFailures) {
+
+    public double hitRatio() {
+        long requests = hits + staleHits + misses;
+        return requests == 0 ? 0.0 : (double) (hits + staleHits) / requests;
+    }
+}
@@ -0,0 +1,89 @@
+package com.skywings.controller;
+
+import com.skywings.cache.CacheStats;
+import com.skywings.dto.AnalyticsDashboard;
+import com.skywings.dto.AnalyticsQueryRequest;
+import com.skywings.dto.AnalyticsQueryResult;
+import com.skywings.dto.BookingSweepStats;
+import com.skywings.service.BookingAnalyticsService;
+import com.skywings.service.BookingExpirySweeper;
+import com.skywings.service.BookingSnapshotService;
+import com.skywings.service.DataExportService;
+import com.skywings.service.FlightService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private BookingExpirySweeper bookingExpirySweeper;
+
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Autowired
+    private BookingSnapshotService bookingSnapshotService;
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @GetMapping("/stats/search-cache")
+    public ResponseEntity<CacheStats> getSearchCacheStats() {
+        return ResponseEntity.ok(flightService.getSearchCacheStats());
+    }
+
+    @GetMapping("/analytics/dashboard")
+    public ResponseEntity<AnalyticsDashboard> getAnalyticsDashboard() {
+        return ResponseEntity.ok(bookingAnalyticsService.getDashboard());
+    }
+
+    @PostMapping("/analytics/query")
+    public ResponseEntity<AnalyticsQueryResult> queryAnalytics(@RequestBody AnalyticsQueryRequest request) {
+        return ResponseEntity.ok(bookingSnapshotService.query(request));
+    }
+
+    @PostMapping("/analytics/rebuild")
+    public ResponseEntity<AnalyticsDashboard> rebuildAnalytics() {
+        bookingAnalyticsService.rebuild();
+        return ResponseEntity.ok(bookingAnalyticsService.getDashboard());
+    }
+
+    // Written from an async thread while rows are read, so the response is never held in memory
+    @GetMapping("/export/bookings")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@RequestParam(required = false) String format) {
+        DataExportService.Format exportFormat = DataExportService.Format.of(format);
+        return export("bookings", exportFormat, out -> dataExportService.exportBookings(out, exportFormat));
+    }
+
+    @GetMapping("/export/flights")
+    public ResponseEntity<StreamingResponseBody> exportFlights(@RequestParam(required = false) String format) {
+        DataExportService.Format exportFormat = DataExportService.Format.of(format);
+        return export("flights", exportFormat, out -> dataExportService.exportFlights(out, exportFormat));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> export(String name, DataExportService.Format format,
+                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/stats/booking-sweeper")
+    public ResponseEntity<BookingSweepStats> getBookingSweeperStats() {
+        return ResponseEntity.ok(bookingExpirySweeper.getStats());
+    }
+}
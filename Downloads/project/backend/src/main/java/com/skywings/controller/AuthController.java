@@ -7,7 +7,10 @@ import com.skywings.dto.MessageResponse;
 import com.skywings.model.User;
 import com.skywings.repository.UserRepository;
 import com.skywings.security.jwt.JwtUtils;
+import com.skywings.security.services.TokenDenylist;
 import com.skywings.security.services.UserDetailsImpl;
+import com.skywings.service.BookingAnalyticsService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +37,12 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    TokenDenylist tokenDenylist;
+
+    @Autowired
+    BookingAnalyticsService bookingAnalyticsService;
+
     @PostMapping("/signin")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
@@ -72,7 +81,29 @@ public class AuthController {
         }
 
         userRepository.save(user);
+        bookingAnalyticsService.userRegistered(user);
 
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
+
+    // Revokes the presented token, or with all=true every token issued to its user
+    @PostMapping("/signout")
+    public ResponseEntity<?> signOutUser(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                         @RequestParam(defaultValue = "false") boolean all) {
+        Claims claims = authorization != null && authorization.startsWith("Bearer ")
+                ? jwtUtils.parseClaims(authorization.substring(7)) : null;
+        if (claims == null || claims.getId() == null || tokenDenylist.isRevoked(claims)) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(new MessageResponse("Error: No valid token to sign out!"));
+        }
+
+        if (all) {
+            tokenDenylist.revokeAll(JwtUtils.userIdOf(claims));
+        } else {
+            tokenDenylist.revoke(claims);
+        }
+
+        return ResponseEntity.ok(new MessageResponse("Signed out successfully!"));
+    }
 }
\ No newline at end of file
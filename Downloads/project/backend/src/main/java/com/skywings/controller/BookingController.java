@@ -1,8 +1,9 @@
 package com.skywings.controller;
 
 import com.skywings.dto.BookingRequest;
+import com.skywings.dto.BookingSummary;
+import com.skywings.dto.CursorPage;
 import com.skywings.dto.PaymentRequest;
-import com.skywings.model.Booking;
 import com.skywings.service.BookingService;
 import com.skywings.security.services.UserDetailsImpl;
 import jakarta.validation.Valid;
@@ -11,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -23,31 +23,33 @@ public class BookingController {
 
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<Booking> createBooking(@Valid @RequestBody BookingRequest bookingRequest,
-                                                Authentication authentication) {
+    public ResponseEntity<BookingSummary> createBooking(@Valid @RequestBody BookingRequest bookingRequest,
+                                                        Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         return ResponseEntity.ok(bookingService.createBooking(bookingRequest, userDetails.getId()));
     }
 
     @GetMapping("/user")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<List<Booking>> getUserBookings(Authentication authentication) {
+    public ResponseEntity<CursorPage<BookingSummary>> getUserBookings(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size,
+                                                                      Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        return ResponseEntity.ok(bookingService.getUserBookings(userDetails.getId()));
+        return ResponseEntity.ok(bookingService.getUserBookings(userDetails.getId(), cursor, size));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<Booking> getBookingById(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<BookingSummary> getBookingById(@PathVariable Long id, Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        return ResponseEntity.ok(bookingService.getBookingById(id, userDetails.getId()));
+        return ResponseEntity.ok(bookingService.getBookingSummary(id, userDetails.getId()));
     }
 
     @PostMapping("/{id}/complete-payment")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<Booking> completePayment(@PathVariable Long id,
-                                                  @Valid @RequestBody PaymentRequest paymentRequest,
-                                                  Authentication authentication) {
+    public ResponseEntity<BookingSummary> completePayment(@PathVariable Long id,
+                                                          @Valid @RequestBody PaymentRequest paymentRequest,
+                                                          Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         return ResponseEntity.ok(bookingService.completePayment(id, paymentRequest, userDetails.getId()));
     }
@@ -62,7 +64,8 @@ public class BookingController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Booking>> getAllBookings() {
-        return ResponseEntity.ok(bookingService.getAllBookings());
+    public ResponseEntity<CursorPage<BookingSummary>> getAllBookings(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(bookingService.getAllBookings(cursor, size));
     }
 }
\ No newline at end of file
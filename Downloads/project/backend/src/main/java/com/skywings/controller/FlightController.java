@@ -1,14 +1,31 @@
 package com.skywings.controller;
 
+import com.skywings.dto.CursorPage;
+import com.skywings.dto.FlightImportResult;
 import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import com.skywings.dto.SeatAvailability;
+import com.skywings.dto.SeatMapLayout;
+import com.skywings.dto.SeatMapOccupancy;
+import com.skywings.dto.SeatView;
 import com.skywings.model.Flight;
+import com.skywings.service.FlightImportService;
 import com.skywings.service.FlightService;
+import com.skywings.service.SeatMapService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -18,31 +35,49 @@ public class FlightController {
     @Autowired
     private FlightService flightService;
 
+    @Autowired
+    private FlightImportService flightImportService;
+    
+    @Autowired
+    private SeatMapService seatMapService;
+
     @GetMapping
-    public ResponseEntity<List<Flight>> getAllFlights() {
-        return ResponseEntity.ok(flightService.getAllFlights());
+    public ResponseEntity<CursorPage<FlightSummary>> getAllFlights(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(flightService.getFlights(cursor, size));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Flight> getFlightById(@PathVariable Long id) {
-        return ResponseEntity.ok(flightService.getFlightById(id));
+    public ResponseEntity<FlightSummary> getFlightById(@PathVariable Long id) {
+        return ResponseEntity.ok(flightService.getFlightSummary(id));
     }
 
     @PostMapping("/search")
-    public ResponseEntity<List<Flight>> searchFlights(@Valid @RequestBody FlightSearchRequest searchRequest) {
+    public ResponseEntity<List<FlightSummary>> searchFlights(@Valid @RequestBody FlightSearchRequest searchRequest) {
         return ResponseEntity.ok(flightService.searchFlights(searchRequest));
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Flight> createFlight(@Valid @RequestBody Flight flight) {
-        return ResponseEntity.ok(flightService.createFlight(flight));
+    public ResponseEntity<FlightSummary> createFlight(@Valid @RequestBody Flight flight) {
+        return ResponseEntity.ok(FlightSummary.from(flightService.createFlight(flight)));
+    }
+
+    // Body is a CSV schedule with a header row, or NDJSON when the content type says json
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FlightImportResult> importFlights(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(flightImportService.importSchedule(
+                new InputStreamReader(body, StandardCharsets.UTF_8),
+                FlightImportService.Format.fromContentType(contentType)));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Flight> updateFlight(@PathVariable Long id, @Valid @RequestBody Flight flight) {
-        return ResponseEntity.ok(flightService.updateFlight(id, flight));
+    public ResponseEntity<FlightSummary> updateFlight(@PathVariable Long id, @Valid @RequestBody Flight flight) {
+        return ResponseEntity.ok(FlightSummary.from(flightService.updateFlight(id, flight)));
     }
 
     @DeleteMapping("/{id}")
@@ -53,7 +88,32 @@ public class FlightController {
     }
 
     @GetMapping("/{id}/seats")
-    public ResponseEntity<?> getFlightSeats(@PathVariable Long id) {
+    public ResponseEntity<List<SeatView>> getFlightSeats(@PathVariable Long id) {
         return ResponseEntity.ok(flightService.getFlightSeats(id));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/seat-map/layout")
+    public ResponseEntity<SeatMapLayout> getSeatMapLayout(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .body(seatMapService.getLayout(id));
+    }
+
+    @GetMapping("/{id}/seat-map")
+    public ResponseEntity<SeatMapOccupancy> getSeatMap(@PathVariable Long id, WebRequest request) {
+        SeatMapOccupancy occupancy = seatMapService.getOccupancy(id);
+        String tag = "\"" + occupancy.version() + "\"";
+        if (request.checkNotModified(tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(tag)
+                .body(occupancy);
+    }
+
+    @GetMapping("/{id}/seats/available")
+    public ResponseEntity<SeatAvailability> getSeatAvailability(@PathVariable Long id) {
+        return ResponseEntity.ok(flightService.getSeatAvailability(id));
+    }
+}
@@ -0,0 +1,21 @@
+package com.skywings.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin dashboard figures. Booking counts exclude cancelled bookings; revenue is
+ * the amount collected so far, by booking month and route.
+ */
+public record AnalyticsDashboard(long totalBookings,
+                                 BigDecimal totalRevenue,
+                                 BigDecimal averageBookingValue,
+                                 List<Bucket> monthly,
+                                 List<Bucket> topRoutes,
+                                 Map<String, Long> bookingStatus,
+                                 Map<String, Long> loyaltyTiers) {
+
+    public record Bucket(String name, long bookings, BigDecimal revenue) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.skywings.dto;
+
+import com.skywings.analytics.BookingSnapshot;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class AnalyticsQueryRequest {
+    // Dimension -> accepted values (case-insensitive); all filters must match
+    private Map<BookingSnapshot.Dimension, List<String>> filters = new EnumMap<>(BookingSnapshot.Dimension.class);
+    // Inclusive booking month range, "yyyy-MM"
+    private String fromMonth;
+    private String toMonth;
+    private List<BookingSnapshot.Dimension> groupBy = new ArrayList<>();
+    private List<BookingSnapshot.Measure> measures = new ArrayList<>();
+    private Integer limit;
+
+    // Constructors
+    public AnalyticsQueryRequest() {}
+
+    // Getters and Setters
+    public Map<BookingSnapshot.Dimension, List<String>> getFilters() { return filters; }
+    public void setFilters(Map<BookingSnapshot.Dimension, List<String>> filters) { this.filters = filters; }
+
+    public String getFromMonth() { return fromMonth; }
+    public void setFromMonth(String fromMonth) { this.fromMonth = fromMonth; }
+
+    public String getToMonth() { return toMonth; }
+    public void setToMonth(String toMonth) { this.toMonth = toMonth; }
+
+    public List<BookingSnapshot.Dimension> getGroupBy() { return groupBy; }
+    public void setGroupBy(List<BookingSnapshot.Dimension> groupBy) { this.groupBy = groupBy; }
+
+    public List<BookingSnapshot.Measure> getMeasures() { return measures; }
+    public void setMeasures(List<BookingSnapshot.Measure> measures) { this.measures = measures; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
@@ -0,0 +1,21 @@
+package com.skywings.dto;
+
+import com.skywings.analytics.BookingSnapshot;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups are ordered by the first requested measure (or by count), largest first.
+ */
+public record AnalyticsQueryResult(LocalDateTime snapshotTakenAt,
+                                   long rowsScanned,
+                                   long rowsMatched,
+                                   long elapsedMicros,
+                                   List<BookingSnapshot.Dimension> groupBy,
+                                   List<Row> rows) {
+
+    public record Row(List<String> keys, long bookings, Map<BookingSnapshot.Measure, BigDecimal> values) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.skywings.dto;
+
+import com.skywings.model.Booking;
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record BookingSummary(Long id,
+                             Long userId,
+                             String passengerName,
+                             LocalDateTime bookingDate,
+                             Booking.BookingStatus status,
+                             BigDecimal totalAmount,
+                             BigDecimal paidAmount,
+                             BigDecimal remainingAmount,
+                             Integer baggageWeight,
+                             Integer extraBaggageWeight,
+                             BigDecimal baggageCharges,
+                             Integer discountApplied,
+                             LocalDateTime paymentDueDate,
+                             Boolean isBlocking,
+                             Long flightId,
+                             String flightNumber,
+                             String airline,
+                             String origin,
+                             String destination,
+                             LocalDateTime departureTime,
+                             LocalDateTime arrivalTime,
+                             Long seatId,
+                             Integer seatRow,
+                             String seatColumn,
+                             Seat.SeatType seatType) {
+
+    // Column list for JPQL constructor expressions; keep in the record's component order
+    public static final String SELECT = "SELECT new com.skywings.dto.BookingSummary(" +
+            "b.id, b.user.id, b.passengerName, b.bookingDate, b.status, b.totalAmount, b.paidAmount, " +
+            "b.remainingAmount, b.baggageWeight, b.extraBaggageWeight, b.baggageCharges, b.discountApplied, " +
+            "b.paymentDueDate, b.isBlocking, f.id, f.flightNumber, f.airline, f.origin, f.destination, " +
+            "f.departureTime, f.arrivalTime, s.id, s.seatRow, s.seatColumn, s.type) " +
+            "FROM Booking b JOIN b.flight f JOIN b.seat s ";
+
+    public static BookingSummary from(Booking booking) {
+        Flight flight = booking.getFlight();
+        Seat seat = booking.getSeat();
+        return new BookingSummary(booking.getId(), booking.getUser().getId(), booking.getPassengerName(),
+                booking.getBookingDate(), booking.getStatus(), booking.getTotalAmount(), booking.getPaidAmount(),
+                booking.getRemainingAmount(), booking.getBaggageWeight(), booking.getExtraBaggageWeight(),
+                booking.getBaggageCharges(), booking.getDiscountApplied(), booking.getPaymentDueDate(),
+                booking.getIsBlocking(), flight.getId(), flight.getFlightNumber(), flight.getAirline(),
+                flight.getOrigin(), flight.getDestination(), flight.getDepartureTime(), flight.getArrivalTime(),
+                seat.getId(), seat.getSeatRow(), seat.getSeatColumn(), seat.getType());
+    }
+
+    public String getSeatLabel() {
+        return seatRow + seatColumn;
+    }
+}
@@ -0,0 +1,13 @@
+package com.skywings.dto;
+
+import java.time.LocalDateTime;
+
+public record BookingSweepStats(long runs,
+                                LocalDateTime lastRunAt,
+                                long lastRunMillis,
+                                long maxRunMillis,
+                                long lastCancelled,
+                                long lastSeatsReclaimed,
+                                long totalCancelled,
+                                long totalSeatsReclaimed) {
+}
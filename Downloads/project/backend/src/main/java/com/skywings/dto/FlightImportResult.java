@@ -0,0 +1,18 @@
+package com.skywings.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a schedule import. {@code errors} is capped; {@code failed} counts
+ * every rejected row.
+ */
+public record FlightImportResult(long rows,
+                                 long imported,
+                                 long failed,
+                                 List<RowError> errors,
+                                 boolean errorsTruncated,
+                                 long elapsedMillis) {
+
+    public record RowError(long line, String flightNumber, String message) {
+    }
+}
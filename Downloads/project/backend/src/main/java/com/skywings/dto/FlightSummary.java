@@ -0,0 +1,40 @@
+package com.skywings.dto;
+
+import com.skywings.model.Flight;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record FlightSummary(Long id,
+                            String flightNumber,
+                            String airline,
+                            String origin,
+                            String destination,
+                            String originCode,
+                            String destinationCode,
+                            LocalDateTime departureTime,
+                            LocalDateTime arrivalTime,
+                            String duration,
+                            BigDecimal price,
+                            Integer totalSeats,
+                            Integer availableSeats,
+                            Integer availableFirstSeats,
+                            Integer availableBusinessSeats,
+                            Integer availableEconomySeats,
+                            String aircraft,
+                            Flight.FlightStatus status) {
+
+    // Column list for JPQL constructor expressions; keep in the record's component order
+    public static final String SELECT = "SELECT new com.skywings.dto.FlightSummary(" +
+            "f.id, f.flightNumber, f.airline, f.origin, f.destination, f.originCode, f.destinationCode, " +
+            "f.departureTime, f.arrivalTime, f.duration, f.price, f.totalSeats, f.availableSeats, " +
+            "f.availableFirstSeats, f.availableBusinessSeats, f.availableEconomySeats, f.aircraft, f.status) ";
+
+    public static FlightSummary from(Flight flight) {
+        return new FlightSummary(flight.getId(), flight.getFlightNumber(), flight.getAirline(),
+                flight.getOrigin(), flight.getDestination(), flight.getOriginCode(), flight.getDestinationCode(),
+                flight.getDepartureTime(), flight.getArrivalTime(), flight.getDuration(), flight.getPrice(),
+                flight.getTotalSeats(), flight.getAvailableSeats(), flight.getAvailableFirstSeats(),
+                flight.getAvailableBusinessSeats(), flight.getAvailableEconomySeats(), flight.getAircraft(),
+                flight.getStatus());
+    }
+}
@@ -0,0 +1,14 @@
+package com.skywings.dto;
+
+import java.util.Map;
+
+/**
+ * Row counts written by one synthetic dataset run, with bookings broken down by status.
+ */
+public record GeneratedDataset(long users,
+                               long flights,
+                               long seats,
+                               long bookings,
+                               Map<String, Long> bookingsByStatus,
+                               long elapsedMillis) {
+}
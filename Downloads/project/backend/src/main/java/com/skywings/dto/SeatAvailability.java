@@ -0,0 +1,32 @@
+package com.skywings.dto;
+
+import com.skywings.model.Seat;
+import java.util.Map;
+
+public class SeatAvailability {
+    private Long flightId;
+    private int availableSeats;
+    private Map<Seat.SeatType, Integer> availableByCabin;
+    private long[] availableSeatIds;
+
+    public SeatAvailability(Long flightId, int availableSeats, Map<Seat.SeatType, Integer> availableByCabin,
+                            long[] availableSeatIds) {
+        this.flightId = flightId;
+        this.availableSeats = availableSeats;
+        this.availableByCabin = availableByCabin;
+        this.availableSeatIds = availableSeatIds;
+    }
+
+    // Getters and Setters
+    public Long getFlightId() { return flightId; }
+    public void setFlightId(Long flightId) { this.flightId = flightId; }
+
+    public int getAvailableSeats() { return availableSeats; }
+    public void setAvailableSeats(int availableSeats) { this.availableSeats = availableSeats; }
+
+    public Map<Seat.SeatType, Integer> getAvailableByCabin() { return availableByCabin; }
+    public void setAvailableByCabin(Map<Seat.SeatType, Integer> availableByCabin) { this.availableByCabin = availableByCabin; }
+
+    public long[] getAvailableSeatIds() { return availableSeatIds; }
+    public void setAvailableSeatIds(long[] availableSeatIds) { this.availableSeatIds = availableSeatIds; }
+}
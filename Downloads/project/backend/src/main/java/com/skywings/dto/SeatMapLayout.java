@@ -0,0 +1,22 @@
+package com.skywings.dto;
+
+import com.skywings.model.Seat;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Static part of a seat map, sent once and cached by the client. Arrays are
+ * parallel and in seat-map order; {@code cabins} holds one letter per seat
+ * (F, B or E) and matches the bit order of {@link SeatMapOccupancy}.
+ */
+public record SeatMapLayout(Long flightId,
+                            long[] seatIds,
+                            int[] rows,
+                            String[] columns,
+                            String cabins,
+                            Map<Seat.SeatType, Cabin> cabinDetails) {
+
+    public record Cabin(BigDecimal upgradePrice, List<String> features) {
+    }
+}
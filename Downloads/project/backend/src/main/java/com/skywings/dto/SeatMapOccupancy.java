@@ -0,0 +1,16 @@
+package com.skywings.dto;
+
+import com.skywings.model.Seat;
+import java.util.Map;
+
+/**
+ * Occupancy of a seat map as a base64 bitmap: bit {@code i} (LSB first within
+ * each byte) is set when the seat at layout position {@code i} is taken.
+ */
+public record SeatMapOccupancy(Long flightId,
+                               String version,
+                               int capacity,
+                               String occupied,
+                               int availableSeats,
+                               Map<Seat.SeatType, Integer> availableByCabin) {
+}
@@ -0,0 +1,13 @@
+package com.skywings.dto;
+
+import com.skywings.model.Seat;
+import java.math.BigDecimal;
+
+public record SeatState(Long id,
+                        Integer seatRow,
+                        String seatColumn,
+                        Seat.SeatType type,
+                        BigDecimal upgradePrice,
+                        Seat.SeatStatus status,
+                        Long featureSetId) {
+}
@@ -0,0 +1,19 @@
+package com.skywings.dto;
+
+import com.skywings.model.Seat;
+import java.math.BigDecimal;
+import java.util.List;
+
+public record SeatView(Long id,
+                       Integer seatRow,
+                       String seatColumn,
+                       Seat.SeatType type,
+                       BigDecimal upgradePrice,
+                       Seat.SeatStatus status,
+                       List<String> features) {
+
+    public static SeatView from(SeatState seat, List<String> features) {
+        return new SeatView(seat.id(), seat.seatRow(), seat.seatColumn(), seat.type(), seat.upgradePrice(),
+                seat.status(), features);
+    }
+}
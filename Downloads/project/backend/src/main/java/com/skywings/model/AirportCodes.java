@@ -0,0 +1,114 @@
+package com.skywings.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free-text places ("New York (JFK)", "jfk", "Chicago") to IATA
+ * airport codes so flights can be searched through an index.
+ */
+public final class AirportCodes {
+    private static final Pattern CODE_IN_PARENS = Pattern.compile("\\(([A-Za-z]{3})\\)\\s*$");
+    private static final Pattern BARE_CODE = Pattern.compile("^[A-Za-z]{3}$");
+
+    private static final Map<String, Set<String>> CITY_AIRPORTS = new HashMap<>();
+    private static final Map<String, String> CITY_NAMES = new HashMap<>();
+    private static final Set<String> KNOWN_AIRPORTS = new HashSet<>();
+
+    static {
+        city("new york", "nyc", "JFK", "LGA", "EWR");
+        city("los angeles", "lax", "LAX");
+        city("chicago", "chi", "ORD", "MDW");
+        city("miami", "mia", "MIA");
+        city("boston", "bos", "BOS");
+        city("san francisco", "sfo", "SFO");
+        city("seattle", "sea", "SEA");
+        city("washington", "was", "IAD", "DCA");
+        city("atlanta", "atl", "ATL");
+        city("dallas", "dfw", "DFW", "DAL");
+        city("houston", "hou", "IAH", "HOU");
+        city("denver", "den", "DEN");
+        city("las vegas", "las", "LAS");
+        city("orlando", "mco", "MCO");
+        city("london", "lon", "LHR", "LGW");
+        city("paris", "par", "CDG", "ORY");
+        city("tokyo", "tyo", "HND", "NRT");
+        city("dubai", "dxb", "DXB");
+        city("delhi", "del", "DEL");
+        city("mumbai", "bom", "BOM");
+    }
+
+    private AirportCodes() {}
+
+    private static void city(String name, String cityCode, String... airports) {
+        Set<String> codes = Set.of(airports);
+        CITY_AIRPORTS.put(name, codes);
+        CITY_AIRPORTS.put(cityCode, codes);
+        CITY_NAMES.put(cityCode, name);
+        KNOWN_AIRPORTS.addAll(codes);
+    }
+
+    /**
+     * The single airport code stored for a flight's origin or destination, or
+     * {@code null} when the place cannot be pinned to one airport.
+     */
+    public static String airportCode(String place) {
+        if (place == null || place.isBlank()) {
+            return null;
+        }
+        String trimmed = place.trim();
+        Matcher matcher = CODE_IN_PARENS.matcher(trimmed);
+        if (matcher.find()) {
+            return matcher.group(1).toUpperCase(Locale.ROOT);
+        }
+        if (BARE_CODE.matcher(trimmed).matches()) {
+            return trimmed.toUpperCase(Locale.ROOT);
+        }
+        Set<String> airports = CITY_AIRPORTS.get(trimmed.toLowerCase(Locale.ROOT));
+        return airports != null && airports.size() == 1 ? airports.iterator().next() : null;
+    }
+
+    /**
+     * Airport codes a search term refers to; empty when the caller has to fall back
+     * to substring matching. That is the case for unknown codes and places, and for
+     * multi-airport cities, whose flights may be stored under the bare city name
+     * with no code (see {@link #airportCode}).
+     */
+    public static Set<String> resolve(String term) {
+        if (term == null || term.isBlank()) {
+            return Collections.emptySet();
+        }
+        String trimmed = term.trim();
+        Matcher matcher = CODE_IN_PARENS.matcher(trimmed);
+        if (matcher.find()) {
+            return Set.of(matcher.group(1).toUpperCase(Locale.ROOT));
+        }
+        Set<String> airports = CITY_AIRPORTS.get(trimmed.toLowerCase(Locale.ROOT));
+        if (airports != null) {
+            return airports.size() == 1 ? airports : Collections.emptySet();
+        }
+        String code = trimmed.toUpperCase(Locale.ROOT);
+        if (BARE_CODE.matcher(trimmed).matches() && KNOWN_AIRPORTS.contains(code)) {
+            return Set.of(code);
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * The text to substring-match when {@link #resolve} comes back empty: the city
+     * name for a city code ("nyc" becomes "new york"), otherwise the trimmed term.
+     */
+    public static String searchText(String term) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        String trimmed = term.trim();
+        return CITY_NAMES.getOrDefault(trimmed.toLowerCase(Locale.ROOT), trimmed);
+    }
+}
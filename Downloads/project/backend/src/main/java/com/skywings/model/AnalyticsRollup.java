@@ -0,0 +1,72 @@
+package com.skywings.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * One striped counter cell of the admin analytics rollups. A metric/bucket pair
+ * (e.g. "month"/"2026-10" or "route"/"JFK-LAX") is spread over a few slots so
+ * concurrent bookings rarely update the same row; readers sum the slots.
+ * Written with JDBC upserts by AnalyticsRollupRepository.
+ */
+@Entity
+@Table(name = "analytics_rollups")
+public class AnalyticsRollup {
+    @EmbeddedId
+    private Key key;
+
+    private long bookings;
+
+    @Column(precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // Constructors
+    public AnalyticsRollup() {}
+
+    // Getters and Setters
+    public Key getKey() { return key; }
+    public void setKey(Key key) { this.key = key; }
+
+    public long getBookings() { return bookings; }
+    public void setBookings(long bookings) { this.bookings = bookings; }
+
+    public BigDecimal getRevenue() { return revenue; }
+    public void setRevenue(BigDecimal revenue) { this.revenue = revenue; }
+
+    @Embeddable
+    public static class Key implements Serializable {
+        @Column(length = 16)
+        private String metric;
+
+        @Column(length = 64)
+        private String bucket;
+
+        private int slot;
+
+        public Key() {}
+
+        public String getMetric() { return metric; }
+        public void setMetric(String metric) { this.metric = metric; }
+
+        public String getBucket() { return bucket; }
+        public void setBucket(String bucket) { this.bucket = bucket; }
+
+        public int getSlot() { return slot; }
+        public void setSlot(int slot) { this.slot = slot; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key other = (Key) o;
+            return slot == other.slot && Objects.equals(metric, other.metric) && Objects.equals(bucket, other.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, bucket, slot);
+        }
+    }
+}
@@ -8,7 +8,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_user_date", columnList = "user_id, booking_date"),
+        @Index(name = "idx_bookings_date", columnList = "booking_date"),
+        @Index(name = "idx_bookings_status_due", columnList = "status, payment_due_date")
+})
 public class Booking {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +22,7 @@ public class Booking {
     private String passengerName;
 
     @NotNull
+    @Column(name = "booking_date")
     private LocalDateTime bookingDate;
 
     @Enumerated(EnumType.STRING)
@@ -38,6 +43,7 @@ public class Booking {
 
     private Integer discountApplied = 0;
 
+    @Column(name = "payment_due_date")
     private LocalDateTime paymentDueDate;
 
     private Boolean isBlocking = false;
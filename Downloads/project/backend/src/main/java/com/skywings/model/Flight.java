@@ -1,5 +1,6 @@
 package com.skywings.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,7 +10,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "flights")
+@Table(name = "flights", indexes = {
+        @Index(name = "idx_flights_route_departure", columnList = "origin_code, destination_code, departure_time"),
+        @Index(name = "idx_flights_destination_departure", columnList = "destination_code, departure_time"),
+        @Index(name = "idx_flights_departure", columnList = "departure_time")
+})
 public class Flight {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,7 +33,18 @@ public class Flight {
     @NotBlank
     private String destination;
 
+    @Column(name = "origin_code", length = 3)
+    private String originCode;
+
+    @Column(name = "destination_code", length = 3)
+    private String destinationCode;
+
+    // Set once the codes were derived, so places without a code are not re-examined by the backfill
+    @Column(name = "route_codes_checked")
+    private Boolean routeCodesChecked;
+
     @NotNull
+    @Column(name = "departure_time")
     private LocalDateTime departureTime;
 
     @NotNull
@@ -44,17 +60,31 @@ public class Flight {
     @Positive
     private Integer totalSeats;
 
+    // Written on insert, then only by the delta and repair UPDATEs in FlightRepository;
+    // saving a stale entity must not overwrite concurrent bookings' deltas
+    @Column(updatable = false)
     private Integer availableSeats;
 
+    @Column(updatable = false)
+    private Integer availableFirstSeats;
+
+    @Column(updatable = false)
+    private Integer availableBusinessSeats;
+
+    @Column(updatable = false)
+    private Integer availableEconomySeats;
+
     @NotBlank
     private String aircraft;
 
     @Enumerated(EnumType.STRING)
     private FlightStatus status = FlightStatus.SCHEDULED;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "flight", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Seat> seats;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "flight", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Booking> bookings;
 
@@ -76,6 +106,14 @@ public class Flight {
         this.aircraft = aircraft;
     }
 
+    @PrePersist
+    @PreUpdate
+    void normalizeRoute() {
+        this.originCode = AirportCodes.airportCode(origin);
+        this.destinationCode = AirportCodes.airportCode(destination);
+        this.routeCodesChecked = true;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -92,6 +130,15 @@ public class Flight {
     public String getDestination() { return destination; }
     public void setDestination(String destination) { this.destination = destination; }
 
+    public String getOriginCode() { return originCode; }
+    public void setOriginCode(String originCode) { this.originCode = originCode; }
+
+    public String getDestinationCode() { return destinationCode; }
+    public void setDestinationCode(String destinationCode) { this.destinationCode = destinationCode; }
+
+    public Boolean getRouteCodesChecked() { return routeCodesChecked; }
+    public void setRouteCodesChecked(Boolean routeCodesChecked) { this.routeCodesChecked = routeCodesChecked; }
+
     public LocalDateTime getDepartureTime() { return departureTime; }
     public void setDepartureTime(LocalDateTime departureTime) { this.departureTime = departureTime; }
 
@@ -110,6 +157,15 @@ public class Flight {
     public Integer getAvailableSeats() { return availableSeats; }
     public void setAvailableSeats(Integer availableSeats) { this.availableSeats = availableSeats; }
 
+    public Integer getAvailableFirstSeats() { return availableFirstSeats; }
+    public void setAvailableFirstSeats(Integer availableFirstSeats) { this.availableFirstSeats = availableFirstSeats; }
+
+    public Integer getAvailableBusinessSeats() { return availableBusinessSeats; }
+    public void setAvailableBusinessSeats(Integer availableBusinessSeats) { this.availableBusinessSeats = availableBusinessSeats; }
+
+    public Integer getAvailableEconomySeats() { return availableEconomySeats; }
+    public void setAvailableEconomySeats(Integer availableEconomySeats) { this.availableEconomySeats = availableEconomySeats; }
+
     public String getAircraft() { return aircraft; }
     public void setAircraft(String aircraft) { this.aircraft = aircraft; }
 
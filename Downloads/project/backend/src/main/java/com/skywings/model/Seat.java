@@ -26,10 +26,9 @@ public class Seat {
     @Enumerated(EnumType.STRING)
     private SeatStatus status = SeatStatus.AVAILABLE;
 
-    @ElementCollection
-    @CollectionTable(name = "seat_features", joinColumns = @JoinColumn(name = "seat_id"))
-    @Column(name = "feature")
-    private List<String> features;
+    // Shared SeatFeatureSet; seats of a cabin all point at the same set
+    @Column(name = "feature_set_id")
+    private Long featureSetId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "flight_id")
@@ -68,8 +67,8 @@ public class Seat {
     public SeatStatus getStatus() { return status; }
     public void setStatus(SeatStatus status) { this.status = status; }
 
-    public List<String> getFeatures() { return features; }
-    public void setFeatures(List<String> features) { this.features = features; }
+    public Long getFeatureSetId() { return featureSetId; }
+    public void setFeatureSetId(Long featureSetId) { this.featureSetId = featureSetId; }
 
     public Flight getFlight() { return flight; }
     public void setFlight(Flight flight) { this.flight = flight; }
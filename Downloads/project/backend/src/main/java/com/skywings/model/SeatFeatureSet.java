@@ -0,0 +1,43 @@
+package com.skywings.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.List;
+
+@Entity
+@Table(name = "seat_feature_sets")
+public class SeatFeatureSet {
+    public static final String SEPARATOR = "|";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Features joined by SEPARATOR; unique, so each distinct set is stored once
+    @NotNull
+    @Column(unique = true, length = 500)
+    private String features;
+
+    // Constructors
+    public SeatFeatureSet() {}
+
+    public SeatFeatureSet(List<String> features) {
+        this.features = join(features);
+    }
+
+    public static String join(List<String> features) {
+        return String.join(SEPARATOR, features);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFeatures() { return features; }
+    public void setFeatures(String features) { this.features = features; }
+
+    public List<String> getFeatureList() {
+        return features.isEmpty() ? List.of() : List.copyOf(Arrays.asList(features.split("\\|")));
+    }
+}
@@ -0,0 +1,41 @@
+package com.skywings.model;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cabin layout of an aircraft type: contiguous row blocks, each with its seat
+ * letters, upgrade price and cabin features.
+ */
+public record SeatLayoutTemplate(String name, List<Cabin> cabins) {
+
+    public record Cabin(Seat.SeatType type,
+                        int firstRow,
+                        int lastRow,
+                        String columns,
+                        BigDecimal upgradePrice,
+                        List<String> features) {
+
+        public int seatCount() {
+            return (lastRow - firstRow + 1) * columns.length();
+        }
+    }
+
+    public int seatCount() {
+        int count = 0;
+        for (Cabin cabin : cabins) {
+            count += cabin.seatCount();
+        }
+        return count;
+    }
+
+    public Map<Seat.SeatType, Integer> seatsByCabin() {
+        Map<Seat.SeatType, Integer> counts = new EnumMap<>(Seat.SeatType.class);
+        for (Cabin cabin : cabins) {
+            counts.merge(cabin.type(), cabin.seatCount(), Integer::sum);
+        }
+        return counts;
+    }
+}
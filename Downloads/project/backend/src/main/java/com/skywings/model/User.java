@@ -40,6 +40,10 @@ public class User {
 
     private Integer totalFlights = 0;
 
+    // Tokens issued under an older epoch are rejected; bumped to sign a user out everywhere
+    @Column(name = "token_epoch")
+    private Integer tokenEpoch = 0;
+
     @Column(name = "member_since")
     private LocalDateTime memberSince;
 
@@ -84,6 +88,9 @@ public class User {
     public Integer getTotalFlights() { return totalFlights; }
     public void setTotalFlights(Integer totalFlights) { this.totalFlights = totalFlights; }
 
+    public Integer getTokenEpoch() { return tokenEpoch; }
+    public void setTokenEpoch(Integer tokenEpoch) { this.tokenEpoch = tokenEpoch; }
+
     public LocalDateTime getMemberSince() { return memberSince; }
     public void setMemberSince(LocalDateTime memberSince) { this.memberSince = memberSince; }
 
@@ -0,0 +1,70 @@
+package com.skywings.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public class AnalyticsRollupRepository {
+    private static final String UPSERT =
+            "INSERT INTO analytics_rollups (metric, bucket, slot, bookings, revenue) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE bookings = bookings + VALUES(bookings), revenue = revenue + VALUES(revenue)";
+
+    // Booking-derived rollups rebuilt from scratch into slot 0
+    private static final String[] REBUILD = {
+            "INSERT INTO analytics_rollups (metric, bucket, slot, bookings, revenue) " +
+            "SELECT 'month', DATE_FORMAT(b.booking_date, '%Y-%m'), 0, " +
+            "SUM(CASE WHEN b.status <> 'CANCELLED' THEN 1 ELSE 0 END), COALESCE(SUM(b.paid_amount), 0) " +
+            "FROM bookings b GROUP BY DATE_FORMAT(b.booking_date, '%Y-%m')",
+            "INSERT INTO analytics_rollups (metric, bucket, slot, bookings, revenue) " +
+            "SELECT 'route', CONCAT(COALESCE(f.origin_code, f.origin), '-', COALESCE(f.destination_code, f.destination)), 0, " +
+            "SUM(CASE WHEN b.status <> 'CANCELLED' THEN 1 ELSE 0 END), COALESCE(SUM(b.paid_amount), 0) " +
+            "FROM bookings b JOIN flights f ON f.id = b.flight_id " +
+            "GROUP BY CONCAT(COALESCE(f.origin_code, f.origin), '-', COALESCE(f.destination_code, f.destination))",
+            "INSERT INTO analytics_rollups (metric, bucket, slot, bookings, revenue) " +
+            "SELECT 'status', b.status, 0, COUNT(*), 0 FROM bookings b GROUP BY b.status",
+            "INSERT INTO analytics_rollups (metric, bucket, slot, bookings, revenue) " +
+            "SELECT 'tier', u.loyalty_tier, 0, COUNT(*), 0 FROM users u GROUP BY u.loyalty_tier"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public record Delta(String metric, String bucket, int slot, long bookings, BigDecimal revenue) {
+    }
+
+    public record Total(String bucket, long bookings, BigDecimal revenue) {
+    }
+
+    public void apply(List<Delta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT, deltas.stream()
+                .map(d -> new Object[] {d.metric(), d.bucket(), d.slot(), d.bookings(), d.revenue()})
+                .toList());
+    }
+
+    /**
+     * Slots summed per bucket; cost depends on the number of buckets, not on booking volume.
+     */
+    public List<Total> totals(String metric) {
+        return jdbcTemplate.query(
+                "SELECT bucket, SUM(bookings) AS bookings, SUM(revenue) AS revenue FROM analytics_rollups " +
+                "WHERE metric = ? GROUP BY bucket",
+                (rs, i) -> new Total(rs.getString("bucket"), rs.getLong("bookings"), rs.getBigDecimal("revenue")),
+                metric);
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM analytics_rollups", Long.class) == 0;
+    }
+
+    // Must run in a transaction; the rollups are replaced atomically
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM analytics_rollups");
+        for (String sql : REBUILD) {
+            jdbcTemplate.update(sql);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.skywings.repository;
+
+import com.skywings.analytics.BookingSnapshot;
+import com.skywings.model.Seat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based booking maintenance. The locking reads use SKIP LOCKED, so several
+ * nodes sweeping at once each take a disjoint chunk instead of waiting on one
+ * another; all writes are conditional on the state that was read.
+ */
+@Repository
+public class BookingBatchRepository {
+    private static final String LOCK_EXPIRED_BLOCKED =
+            "SELECT b.id, b.seat_id, b.booking_date, " +
+            "CONCAT(COALESCE(f.origin_code, f.origin), '-', COALESCE(f.destination_code, f.destination)) AS route " +
+            "FROM bookings b JOIN flights f ON f.id = b.flight_id " +
+            "WHERE b.status = 'BLOCKED' AND b.payment_due_date < ? " +
+            "ORDER BY b.payment_due_date LIMIT ? FOR UPDATE OF b SKIP LOCKED";
+    private static final String SNAPSHOT_PAGE =
+            "SELECT b.id, f.airline, " +
+            "CONCAT(COALESCE(f.origin_code, f.origin), '-', COALESCE(f.destination_code, f.destination)) AS route, " +
+            // The tier at booking time, from the discount it earned (see FareCalculator)
+            "s.type, CASE b.discount_applied WHEN 5 THEN 'SILVER' WHEN 10 THEN 'GOLD' WHEN 15 THEN 'PLATINUM' " +
+            "ELSE 'BRONZE' END AS loyalty_tier, b.status, DATE_FORMAT(b.booking_date, '%Y-%m') AS booking_month, " +
+            "DATE_FORMAT(f.departure_time, '%Y-%m') AS departure_month, b.total_amount, b.paid_amount, " +
+            "b.remaining_amount, b.baggage_charges, b.discount_applied " +
+            "FROM bookings b JOIN flights f ON f.id = b.flight_id JOIN seats s ON s.id = b.seat_id " +
+            "WHERE b.id > ? ORDER BY b.id LIMIT ?";
+    private static final String INSERT_BOOKING =
+            "INSERT INTO bookings (user_id, flight_id, seat_id, passenger_name, booking_date, status, total_amount, " +
+            "paid_amount, remaining_amount, baggage_weight, extra_baggage_weight, baggage_charges, discount_applied, " +
+            "payment_due_date, is_blocking) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADJUST_FLIGHT =
+            "UPDATE flights SET available_seats = available_seats + ?, " +
+            "available_first_seats = available_first_seats + ?, " +
+            "available_business_seats = available_business_seats + ?, " +
+            "available_economy_seats = available_economy_seats + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record ExpiredBooking(long bookingId, long seatId, LocalDateTime bookingDate, String route) {
+    }
+
+    public record ReleasedSeat(long seatId, long flightId, Seat.SeatType type) {
+    }
+
+    /**
+     * Locks up to {@code limit} BLOCKED bookings whose payment is overdue, skipping
+     * rows another transaction already holds. Must run inside a transaction.
+     */
+    public List<ExpiredBooking> lockExpiredBlocked(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(LOCK_EXPIRED_BLOCKED,
+                (rs, i) -> new ExpiredBooking(rs.getLong("id"), rs.getLong("seat_id"),
+                        rs.getTimestamp("booking_date").toLocalDateTime(), rs.getString("route")),
+                Timestamp.valueOf(now), limit);
+    }
+
+    public int cancelBlocked(Collection<Long> bookingIds) {
+        return namedParameterJdbcTemplate.update(
+                "UPDATE bookings SET status = 'CANCELLED' WHERE id IN (:ids) AND status = 'BLOCKED'",
+                Map.of("ids", bookingIds));
+    }
+
+    /**
+     * Frees the given seats that are still OCCUPIED and held by no live booking,
+     * and returns exactly those, so flight counters move by what was actually
+     * released. Call after cancelling the bookings that held them.
+     */
+    public List<ReleasedSeat> releaseSeats(Collection<Long> seatIds) {
+        Map<String, Object> params = Map.of("ids", seatIds);
+        List<ReleasedSeat> seats = namedParameterJdbcTemplate.query(
+                "SELECT s.id, s.flight_id, s.type FROM seats s WHERE s.id IN (:ids) AND s.status = 'OCCUPIED' " +
+                "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.seat_id = s.id AND b.status <> 'CANCELLED') " +
+                "FOR UPDATE",
+                params, (rs, i) -> new ReleasedSeat(rs.getLong("id"), rs.getLong("flight_id"),
+                        Seat.SeatType.valueOf(rs.getString("type"))));
+        if (!seats.isEmpty()) {
+            namedParameterJdbcTemplate.update("UPDATE seats SET status = 'AVAILABLE' WHERE id IN (:ids)",
+                    Map.of("ids", seats.stream().map(ReleasedSeat::seatId).toList()));
+        }
+        return seats;
+    }
+
+    /**
+     * Bulk load for generated data; each row is {userId, flightId, seatId,
+     * passengerName, bookingDate, status, total, paid, remaining, baggageWeight,
+     * extraBaggageWeight, baggageCharges, discountApplied, paymentDueDate, isBlocking}.
+     * Seats and flight counters are the caller's to keep consistent.
+     */
+    public void insertBookings(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT_BOOKING, rows);
+    }
+
+    /**
+     * One batched update per flight; each row is {total, first, business, economy, flightId}.
+     */
+    public void adjustAvailableSeats(List<Object[]> deltas) {
+        jdbcTemplate.batchUpdate(ADJUST_FLIGHT, deltas);
+    }
+
+    /**
+     * Upper bound on the number of bookings, for sizing a snapshot: ids are never
+     * reused and bookings are never deleted, so this is the row count plus gaps.
+     */
+    public long maxBookingId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM bookings", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * Appends the next keyset page of bookings to a snapshot, in
+     * {@link BookingSnapshot.Dimension} / {@link BookingSnapshot.Measure} order.
+     * Returns the last booking id read, or -1 when there were no more rows.
+     */
+    public long appendSnapshotPage(BookingSnapshot.Builder builder, long afterId, int limit) {
+        long[] lastId = {-1L};
+        jdbcTemplate.query(SNAPSHOT_PAGE, rs -> {
+            BigDecimal total = zeroIfNull(rs.getBigDecimal("total_amount"));
+            int discount = rs.getInt("discount_applied");
+            // total is after the loyalty discount, so the discount given is total * d / (100 - d)
+            BigDecimal discountAmount = discount > 0 && discount < 100
+                    ? total.multiply(BigDecimal.valueOf(discount)).divide(BigDecimal.valueOf(100 - discount), 2,
+                            RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+            builder.add(new String[] {
+                    rs.getString("airline"), rs.getString("route"), rs.getString("type"),
+                    rs.getString("loyalty_tier"), rs.getString("status"),
+                    rs.getString("booking_month"), rs.getString("departure_month")
+            }, new long[] {
+                    cents(total), cents(rs.getBigDecimal("paid_amount")), cents(rs.getBigDecimal("remaining_amount")),
+                    cents(rs.getBigDecimal("baggage_charges")), cents(discountAmount)
+            });
+            lastId[0] = rs.getLong("id");
+        }, afterId, limit);
+        return lastId[0];
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return zeroIfNull(amount).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
\ No newline at end of file
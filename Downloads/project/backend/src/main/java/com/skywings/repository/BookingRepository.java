@@ -1,14 +1,23 @@
 package com.skywings.repository;
 
+import com.skywings.dto.BookingSummary;
 import com.skywings.model.Booking;
 import com.skywings.model.User;
 import com.skywings.model.Flight;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -16,6 +25,42 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     
     List<Booking> findByFlightOrderByBookingDateDesc(Flight flight);
     
+    // Serializes status changes with other cancels, payments and the expiry sweeper
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query(BookingSummary.SELECT + "WHERE b.id = :id")
+    Optional<BookingSummary> findSummaryById(@Param("id") Long id);
+    
+    @Query(BookingSummary.SELECT + "WHERE b.user.id = :userId ORDER BY b.bookingDate DESC, b.id DESC")
+    List<BookingSummary> findUserFirstPage(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(BookingSummary.SELECT + "WHERE b.user.id = :userId AND " +
+           "(b.bookingDate < :bookingDate OR (b.bookingDate = :bookingDate AND b.id < :id)) " +
+           "ORDER BY b.bookingDate DESC, b.id DESC")
+    List<BookingSummary> findUserPageBefore(@Param("userId") Long userId,
+                                     @Param("bookingDate") LocalDateTime bookingDate,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+    
+    @Query(BookingSummary.SELECT + "ORDER BY b.bookingDate DESC, b.id DESC")
+    List<BookingSummary> findFirstPage(Pageable pageable);
+    
+    @Query(BookingSummary.SELECT + "WHERE b.bookingDate < :bookingDate OR " +
+           "(b.bookingDate = :bookingDate AND b.id < :id) ORDER BY b.bookingDate DESC, b.id DESC")
+    List<BookingSummary> findPageBefore(@Param("bookingDate") LocalDateTime bookingDate,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+    
+    // Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole result
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Booking b JOIN FETCH b.flight JOIN FETCH b.seat ORDER BY b.id")
+    Stream<Booking> streamAll();
+    
     @Query("SELECT b FROM Booking b WHERE b.status = :status")
     List<Booking> findByStatus(@Param("status") Booking.BookingStatus status);
     
@@ -0,0 +1,55 @@
+package com.skywings.repository;
+
+import com.skywings.model.Flight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batched JDBC writes for schedule imports. Flight ids are IDENTITY, so they are
+ * read back by flight number (unique) once a batch is in.
+ */
+@Repository
+public class FlightBatchRepository {
+    private static final String INSERT_FLIGHT =
+            "INSERT INTO flights (flight_number, airline, origin, destination, origin_code, destination_code, " +
+            "departure_time, arrival_time, duration, price, total_seats, available_seats, available_first_seats, " +
+            "available_business_seats, available_economy_seats, aircraft, status, route_codes_checked) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertFlights(List<Flight> flights) {
+        jdbcTemplate.batchUpdate(INSERT_FLIGHT, flights.stream().map(f -> new Object[] {
+                f.getFlightNumber(), f.getAirline(), f.getOrigin(), f.getDestination(),
+                f.getOriginCode(), f.getDestinationCode(),
+                Timestamp.valueOf(f.getDepartureTime()), Timestamp.valueOf(f.getArrivalTime()),
+                f.getDuration(), f.getPrice(), f.getTotalSeats(), f.getAvailableSeats(),
+                f.getAvailableFirstSeats(), f.getAvailableBusinessSeats(), f.getAvailableEconomySeats(),
+                f.getAircraft(), f.getStatus().name()
+        }).toList());
+    }
+
+    public Map<String, Long> findIdsByFlightNumbers(Collection<String> flightNumbers) {
+        Map<String, Long> ids = new HashMap<>();
+        if (flightNumbers.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.query("SELECT id, flight_number FROM flights WHERE flight_number IN (:numbers)",
+                Map.of("numbers", Set.copyOf(flightNumbers)),
+                rs -> { ids.put(rs.getString("flight_number"), rs.getLong("id")); });
+        return ids;
+    }
+}
@@ -1,30 +1,130 @@
 package com.skywings.repository;
 
+import com.skywings.dto.FlightSummary;
 import com.skywings.model.Flight;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FlightRepository extends JpaRepository<Flight, Long> {
     Optional<Flight> findByFlightNumber(String flightNumber);
     
-    @Query("SELECT f FROM Flight f WHERE " +
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE f.id = :id")
+    Optional<FlightSummary> findSummaryById(@Param("id") Long id);
+    
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE " +
            "(:origin IS NULL OR LOWER(f.origin) LIKE LOWER(CONCAT('%', :origin, '%'))) AND " +
            "(:destination IS NULL OR LOWER(f.destination) LIKE LOWER(CONCAT('%', :destination, '%'))) AND " +
            "(:departureDate IS NULL OR DATE(f.departureTime) = DATE(:departureDate)) AND " +
            "f.status = 'SCHEDULED'")
-    List<Flight> searchFlights(@Param("origin") String origin,
-                              @Param("destination") String destination,
-                              @Param("departureDate") LocalDateTime departureDate);
+    List<FlightSummary> searchFlights(@Param("origin") String origin,
+                                      @Param("destination") String destination,
+                                      @Param("departureDate") LocalDateTime departureDate);
+    
+    // Flights whose stored place has no code ("Boston Logan") are matched by substring, as searchFlights would
+    String ORIGIN_MATCHES = "(f.originCode IN :origins OR " +
+           "(f.originCode IS NULL AND LOWER(f.origin) LIKE LOWER(CONCAT('%', :originText, '%'))))";
+    String DESTINATION_MATCHES = "(f.destinationCode IN :destinations OR " +
+           "(f.destinationCode IS NULL AND LOWER(f.destination) LIKE LOWER(CONCAT('%', :destinationText, '%'))))";
+
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE " + ORIGIN_MATCHES + " AND " + DESTINATION_MATCHES +
+           " AND f.departureTime >= :from AND f.departureTime < :to AND " +
+           "f.status = 'SCHEDULED' ORDER BY f.departureTime")
+    List<FlightSummary> searchByRoute(@Param("origins") Collection<String> origins,
+                                      @Param("originText") String originText,
+                                      @Param("destinations") Collection<String> destinations,
+                                      @Param("destinationText") String destinationText,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE " + ORIGIN_MATCHES + " AND " +
+           "f.departureTime >= :from AND f.departureTime < :to AND f.status = 'SCHEDULED' ORDER BY f.departureTime")
+    List<FlightSummary> searchByOrigin(@Param("origins") Collection<String> origins,
+                                       @Param("originText") String originText,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE " + DESTINATION_MATCHES + " AND " +
+           "f.departureTime >= :from AND f.departureTime < :to AND f.status = 'SCHEDULED' ORDER BY f.departureTime")
+    List<FlightSummary> searchByDestination(@Param("destinations") Collection<String> destinations,
+                                            @Param("destinationText") String destinationText,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE f.departureTime >= :from AND f.departureTime < :to AND " +
+           "f.status = 'SCHEDULED' ORDER BY f.departureTime")
+    List<FlightSummary> searchByDeparture(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    // Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole result
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM Flight f ORDER BY f.id")
+    Stream<Flight> streamAll();
+
+    @Query(FlightSummary.SELECT + "FROM Flight f ORDER BY f.departureTime ASC, f.id ASC")
+    List<FlightSummary> findFirstPage(Pageable pageable);
+
+    @Query(FlightSummary.SELECT + "FROM Flight f WHERE f.departureTime > :departureTime OR " +
+           "(f.departureTime = :departureTime AND f.id > :id) ORDER BY f.departureTime ASC, f.id ASC")
+    List<FlightSummary> findPageAfter(@Param("departureTime") LocalDateTime departureTime,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @Query("SELECT f FROM Flight f WHERE f.routeCodesChecked IS NULL AND f.id > :afterId ORDER BY f.id")
+    List<Flight> findWithoutRouteCodes(@Param("afterId") Long afterId, Pageable pageable);
     
     List<Flight> findByStatusOrderByDepartureTime(Flight.FlightStatus status);
     
     @Query("SELECT f FROM Flight f WHERE f.departureTime BETWEEN :startDate AND :endDate")
     List<Flight> findFlightsByDateRange(@Param("startDate") LocalDateTime startDate,
                                        @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE Flight f SET f.availableSeats = f.availableSeats + :delta, " +
+           "f.availableFirstSeats = f.availableFirstSeats + :firstDelta, " +
+           "f.availableBusinessSeats = f.availableBusinessSeats + :businessDelta, " +
+           "f.availableEconomySeats = f.availableEconomySeats + :economyDelta " +
+           "WHERE f.id = :id AND f.availableSeats + :delta >= 0")
+    int adjustAvailableSeats(@Param("id") Long id,
+                             @Param("delta") int delta,
+                             @Param("firstDelta") int firstDelta,
+                             @Param("businessDelta") int businessDelta,
+                             @Param("economyDelta") int economyDelta);
+
+    @Query("SELECT f.id, f.availableSeats, f.availableFirstSeats, f.availableBusinessSeats, f.availableEconomySeats " +
+           "FROM Flight f WHERE f.departureTime > :after AND f.id > :afterId ORDER BY f.id")
+    List<Object[]> findAvailabilityCounters(@Param("after") LocalDateTime after,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    @Query("SELECT f.id, f.availableSeats, f.availableFirstSeats, f.availableBusinessSeats, f.availableEconomySeats " +
+           "FROM Flight f WHERE (f.availableSeats IS NULL OR f.availableFirstSeats IS NULL " +
+           "OR f.availableBusinessSeats IS NULL OR f.availableEconomySeats IS NULL) AND f.id > :afterId ORDER BY f.id")
+    List<Object[]> findMissingAvailabilityCounters(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Flight f SET f.availableSeats = :available, f.availableFirstSeats = :first, " +
+           "f.availableBusinessSeats = :business, f.availableEconomySeats = :economy " +
+           "WHERE f.id = :id AND (f.availableSeats = :expected OR (:expected IS NULL AND f.availableSeats IS NULL))")
+    int repairAvailableSeats(@Param("id") Long id,
+                             @Param("expected") Integer expected,
+                             @Param("available") int available,
+                             @Param("first") int first,
+                             @Param("business") int business,
+                             @Param("economy") int economy);
+}
@@ -0,0 +1,78 @@
+package com.skywings.repository;
+
+import com.skywings.model.SeatLayoutTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Writes generated seats with batched JDBC. Seat uses IDENTITY ids, which stops
+ * Hibernate from batching inserts; with {@code rewriteBatchedStatements=true}
+ * each batch here goes to MySQL as a single multi-row INSERT. Features are not
+ * copied per seat; {@code featureSetIds} maps a cabin's features to its shared set.
+ */
+@Repository
+public class SeatBatchRepository {
+    private static final String INSERT_SEAT =
+            "INSERT INTO seats (flight_id, seat_row, seat_column, type, upgrade_price, status, feature_set_id) " +
+            "VALUES (?, ?, ?, ?, ?, 'AVAILABLE', ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertSeats(Map<Long, SeatLayoutTemplate> layouts, Function<List<String>, Long> featureSetIds) {
+        List<Object[]> seats = new ArrayList<>();
+        for (Map.Entry<Long, SeatLayoutTemplate> entry : layouts.entrySet()) {
+            Long flightId = entry.getKey();
+            for (SeatLayoutTemplate.Cabin cabin : entry.getValue().cabins()) {
+                String type = cabin.type().name();
+                Long featureSetId = featureSetIds.apply(cabin.features());
+                for (int row = cabin.firstRow(); row <= cabin.lastRow(); row++) {
+                    for (int col = 0; col < cabin.columns().length(); col++) {
+                        seats.add(new Object[] {flightId, row, String.valueOf(cabin.columns().charAt(col)),
+                                type, cabin.upgradePrice(), featureSetId});
+                    }
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SEAT, seats);
+    }
+
+    public void insertSeats(Long flightId, SeatLayoutTemplate layout, Function<List<String>, Long> featureSetIds) {
+        insertSeats(Map.of(flightId, layout), featureSetIds);
+    }
+
+    /**
+     * Seat ids per flight in insertion order, which is the order
+     * {@link #insertSeats} walks a layout: cabin by cabin, row by row, left to right.
+     */
+    public Map<Long, List<Long>> findIdsByFlightIds(Collection<Long> flightIds) {
+        Map<Long, List<Long>> ids = new HashMap<>();
+        if (flightIds.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT id, flight_id FROM seats WHERE flight_id IN (:ids) ORDER BY flight_id, id",
+                Map.of("ids", flightIds),
+                rs -> { ids.computeIfAbsent(rs.getLong("flight_id"), f -> new ArrayList<>()).add(rs.getLong("id")); });
+        return ids;
+    }
+
+    public void markOccupied(Collection<Long> seatIds) {
+        if (!seatIds.isEmpty()) {
+            namedParameterJdbcTemplate.update("UPDATE seats SET status = 'OCCUPIED' WHERE id IN (:ids)",
+                    Map.of("ids", seatIds));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.skywings.repository;
+
+import com.skywings.model.SeatFeatureSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface SeatFeatureSetRepository extends JpaRepository<SeatFeatureSet, Long> {
+    Optional<SeatFeatureSet> findByFeatures(String features);
+}
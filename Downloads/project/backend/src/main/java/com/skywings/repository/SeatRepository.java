@@ -1,11 +1,14 @@
 package com.skywings.repository;
 
+import com.skywings.dto.SeatState;
 import com.skywings.model.Seat;
 import com.skywings.model.Flight;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +16,11 @@ import java.util.Optional;
 public interface SeatRepository extends JpaRepository<Seat, Long> {
     List<Seat> findByFlightOrderBySeatRowAscSeatColumnAsc(Flight flight);
     
+    @Query("SELECT new com.skywings.dto.SeatState(s.id, s.seatRow, s.seatColumn, s.type, s.upgradePrice, s.status, " +
+           "s.featureSetId) " +
+           "FROM Seat s WHERE s.flight.id = :flightId ORDER BY s.seatRow ASC, s.seatColumn ASC")
+    List<SeatState> findSeatStatesByFlightId(@Param("flightId") Long flightId);
+    
     @Query("SELECT s FROM Seat s WHERE s.flight = :flight AND s.status = 'AVAILABLE'")
     List<Seat> findAvailableSeatsByFlight(@Param("flight") Flight flight);
     
@@ -20,4 +28,20 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     
     @Query("SELECT COUNT(s) FROM Seat s WHERE s.flight = :flight AND s.status = 'AVAILABLE'")
     Integer countAvailableSeatsByFlight(@Param("flight") Flight flight);
+
+    @Query("SELECT s.flight.id, s.type, COUNT(s) FROM Seat s " +
+           "WHERE s.flight.id IN :flightIds AND s.status = 'AVAILABLE' GROUP BY s.flight.id, s.type")
+    List<Object[]> countAvailableSeatsByFlightIds(@Param("flightIds") Collection<Long> flightIds);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = 'OCCUPIED' " +
+           "WHERE s.id = :seatId AND s.flight.id = :flightId AND s.status = 'AVAILABLE'")
+    int claimSeat(@Param("seatId") Long seatId, @Param("flightId") Long flightId);
+
+    // Leaves the seat alone if another live booking holds it by now
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = 'AVAILABLE' WHERE s.id = :seatId AND s.status = 'OCCUPIED' " +
+           "AND NOT EXISTS (SELECT b.id FROM Booking b WHERE b.seat.id = :seatId AND b.id <> :bookingId " +
+           "AND b.status <> 'CANCELLED')")
+    int releaseSeat(@Param("seatId") Long seatId, @Param("bookingId") Long bookingId);
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.skywings.repository;
+
+import com.skywings.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batched JDBC writes for bulk user loads. User ids are IDENTITY, so they are
+ * read back by email (unique) once a batch is in.
+ */
+@Repository
+public class UserBatchRepository {
+    private static final String INSERT_USER =
+            "INSERT INTO users (email, password, first_name, last_name, role, loyalty_tier, total_flights, " +
+            "token_epoch, member_since) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertUsers(List<User> users) {
+        jdbcTemplate.batchUpdate(INSERT_USER, users.stream().map(u -> new Object[] {
+                u.getEmail(), u.getPassword(), u.getFirstName(), u.getLastName(), u.getRole().name(),
+                u.getLoyaltyTier().name(), u.getTotalFlights(), u.getTokenEpoch(), Timestamp.valueOf(u.getMemberSince())
+        }).toList());
+    }
+
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        Map<String, Long> ids = new HashMap<>();
+        if (emails.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.query("SELECT id, email FROM users WHERE email IN (:emails)",
+                Map.of("emails", Set.copyOf(emails)),
+                rs -> { ids.put(rs.getString("email"), rs.getLong("id")); });
+        return ids;
+    }
+}
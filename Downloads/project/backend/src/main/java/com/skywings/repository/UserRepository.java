@@ -2,11 +2,30 @@ package com.skywings.repository;
 
 import com.skywings.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
+
+    // Users who have had all their tokens revoked at least once
+    @Query("SELECT u.id, u.tokenEpoch FROM User u WHERE u.tokenEpoch > 0")
+    List<Object[]> findTokenEpochs();
+
+    @Query("SELECT u.tokenEpoch FROM User u WHERE u.id = :id")
+    Integer findTokenEpochById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    @Modifying
+    @Query("UPDATE User u SET u.tokenEpoch = COALESCE(u.tokenEpoch, 0) + 1 WHERE u.id = :id")
+    int bumpTokenEpoch(@Param("id") Long id);
 }
\ No newline at end of file
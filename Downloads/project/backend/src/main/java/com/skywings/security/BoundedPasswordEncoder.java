@@ -0,0 +1,119 @@
+package com.skywings.security;
+
+import com.skywings.exception.ServiceBusyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt on a small dedicated pool. Request threads only wait for the result, so
+ * a burst of logins can occupy at most {@code threads} cores; once
+ * {@code queueCapacity} hashes are waiting, further requests fail at once with
+ * {@link ServiceBusyException} (503) instead of piling up on Tomcat threads.
+ * A running hash cannot be interrupted, so a queued hash is skipped when its
+ * caller would give up before it could finish, judged by the recent average
+ * hash time; the pool's cores go to callers that are still waiting.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitMillis;
+    private final AtomicLong skipped = new AtomicLong();
+    // Moving average of recent hash times; 0 until the first hash completes
+    private volatile long averageHashNanos;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long waitMillis) {
+        this(new BCryptPasswordEncoder(strength), threads, queueCapacity, waitMillis);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitMillis) {
+        this.delegate = delegate;
+        this.waitMillis = waitMillis;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // True for hashes made with a lower cost than configured; signin then rehashes them
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getSkippedCount() {
+        return skipped.get();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                if (started + averageHashNanos > deadline) {
+                    skipped.incrementAndGet();
+                    throw new ServiceBusyException("Too many sign-in requests, please retry shortly");
+                }
+                T result = task.call();
+                long elapsed = System.nanoTime() - started;
+                long average = averageHashNanos;
+                averageHashNanos = average == 0 ? elapsed : average + (elapsed - average) / 8;
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many sign-in requests, please retry shortly", e);
+        }
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Drops the hash if it is still queued; one already running finishes regardless
+            future.cancel(false);
+            throw new ServiceBusyException("Too many sign-in requests, please retry shortly", e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
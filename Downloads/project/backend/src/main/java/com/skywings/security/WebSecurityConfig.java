@@ -4,6 +4,7 @@ import com.skywings.security.jwt.AuthEntryPointJwt;
 import com.skywings.security.jwt.AuthTokenFilter;
 import com.skywings.security.services.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,8 +13,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -26,6 +25,18 @@ public class WebSecurityConfig {
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
 
+    @Value("${skywings.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${skywings.security.bcrypt.threads:2}")
+    private int bcryptThreads;
+
+    @Value("${skywings.security.bcrypt.queue-capacity:64}")
+    private int bcryptQueueCapacity;
+
+    @Value("${skywings.security.bcrypt.wait-ms:3000}")
+    private long bcryptWaitMs;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -36,6 +47,7 @@ public class WebSecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -45,8 +57,8 @@ public class WebSecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(bcryptStrength, bcryptThreads, bcryptQueueCapacity, bcryptWaitMs);
     }
 
     @Bean
@@ -59,6 +71,9 @@ public class WebSecurityConfig {
                 .requestMatchers("/api/flights").permitAll()
                 .requestMatchers("/api/flights/{id}").permitAll()
                 .requestMatchers("/api/flights/{id}/seats").permitAll()
+                .requestMatchers("/api/flights/{id}/seats/available").permitAll()
+                .requestMatchers("/api/flights/{id}/seat-map").permitAll()
+                .requestMatchers("/api/flights/{id}/seat-map/layout").permitAll()
                 .anyRequest().authenticated();
 
         http.authenticationProvider(authenticationProvider());
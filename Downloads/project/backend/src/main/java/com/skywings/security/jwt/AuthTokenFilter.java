@@ -1,6 +1,7 @@
 package com.skywings.security.jwt;
 
-import com.skywings.security.services.UserDetailsServiceImpl;
+import com.skywings.security.services.TokenDenylist;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,7 +23,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private JwtUtils jwtUtils;
 
     @Autowired
-    private UserDetailsServiceImpl userDetailsService;
+    private TokenDenylist tokenDenylist;
 
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
@@ -31,10 +32,11 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String email = jwtUtils.getEmailFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            Claims claims = jwt == null ? null : jwtUtils.parseClaims(jwt);
+            // Principal comes from the verified claims; no user lookup on this path
+            UserDetails userDetails = claims == null || tokenDenylist.isRevoked(claims)
+                    ? null : jwtUtils.toPrincipal(claims);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails,
                                 null,
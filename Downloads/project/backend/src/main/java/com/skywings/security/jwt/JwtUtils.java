@@ -1,9 +1,12 @@
 package com.skywings.security.jwt;
 
+import com.skywings.model.User;
 import com.skywings.security.services.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,41 +15,94 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtils {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    // Claims carrying everything the request principal needs, so no user lookup per request
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TIER = "tier";
+    public static final String CLAIM_EPOCH = "ep";
+
     @Value("${spring.security.jwt.secret}")
     private String jwtSecret;
 
     @Value("${spring.security.jwt.expiration}")
     private int jwtExpirationMs;
 
+    // Decoding the secret and building the parser once; both are thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
 
         return Jwts.builder()
                 .setSubject((userPrincipal.getEmail()))
+                .setId(UUID.randomUUID().toString())
+                .claim(CLAIM_USER_ID, userPrincipal.getId())
+                .claim(CLAIM_ROLE, userPrincipal.getRole())
+                .claim(CLAIM_TIER, userPrincipal.getLoyaltyTier())
+                .claim(CLAIM_EPOCH, userPrincipal.getTokenEpoch())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    /**
+     * Principal rebuilt from verified claims alone. Returns {@code null} for tokens
+     * issued before the claims existed; those holders have to sign in again.
+     */
+    public UserDetailsImpl toPrincipal(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        String tier = claims.get(CLAIM_TIER, String.class);
+        if (userId == null || role == null || tier == null || claims.getId() == null) {
+            return null;
+        }
+        User.Role userRole = User.Role.valueOf(role);
+        return new UserDetailsImpl(userId.longValue(), claims.getSubject(), null, null, null,
+                userRole, User.LoyaltyTier.valueOf(tier), epochOf(claims),
+                UserDetailsImpl.authoritiesOf(userRole));
+    }
+
+    public static int epochOf(Claims claims) {
+        Number epoch = claims.get(CLAIM_EPOCH, Number.class);
+        return epoch == null ? 0 : epoch.intValue();
+    }
+
+    public static Long userIdOf(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        return userId == null ? null : userId.longValue();
     }
 
     public String getEmailFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    /**
+     * Verifies the token and returns its claims in a single parse, or {@code null}
+     * when the token is not valid.
+     */
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
-            return true;
+            return parser.parseClaimsJws(authToken).getBody();
+        } catch (SecurityException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -57,6 +113,6 @@ public class JwtUtils {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
     }
 }
\ No newline at end of file
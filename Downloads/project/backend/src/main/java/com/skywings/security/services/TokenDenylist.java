@@ -0,0 +1,112 @@
+package com.skywings.security.services;
+
+import com.skywings.model.RevokedToken;
+import com.skywings.repository.RevokedTokenRepository;
+import com.skywings.repository.UserRepository;
+import com.skywings.security.jwt.JwtUtils;
+import com.skywings.service.AfterCommit;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of revoked tokens, checked on every authenticated request
+ * without touching the database. Holds the ids of individually revoked tokens
+ * until they expire, and the token epoch of every user who has been signed out
+ * everywhere; a token is rejected when its epoch is older than its user's.
+ * Changes made on this node apply at once; changes made on other nodes are
+ * picked up by the periodic refresh.
+ */
+@Service
+public class TokenDenylist {
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Each refresh re-reads revocations this far back, to catch rows that committed late or were
+    // stamped by a node whose clock lags; ids are no watermark, they are allocated before commit
+    @Value("${skywings.security.denylist.overlap-ms:120000}")
+    private long overlapMs;
+
+    // jti -> expiry in epoch millis
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // Epochs only grow, so every update keeps the larger value; a refresh whose query ran before a
+    // local revokeAll committed cannot undo it
+    private final Map<Long, Integer> userEpochs = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefresh;
+
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && revokedTokens.containsKey(claims.getId())) {
+            return true;
+        }
+        Long userId = JwtUtils.userIdOf(claims);
+        Integer epoch = userId == null ? null : userEpochs.get(userId);
+        return epoch != null && JwtUtils.epochOf(claims) < epoch;
+    }
+
+    public void revoke(Claims claims) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        revokedTokenRepository.save(new RevokedToken(claims.getId(), JwtUtils.userIdOf(claims), expiresAt));
+        revokedTokens.put(claims.getId(), claims.getExpiration().getTime());
+    }
+
+    /**
+     * Invalidates every token issued to the user so far, e.g. after a role change.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        userRepository.bumpTokenEpoch(userId);
+        Integer epoch = userRepository.findTokenEpochById(userId);
+        AfterCommit.run(() -> userEpochs.merge(userId, epoch, Math::max));
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${skywings.security.denylist.refresh-ms:30000}",
+               fixedDelayString = "${skywings.security.denylist.refresh-ms:30000}")
+    @Transactional
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRefresh == null ? LocalDateTime.of(1970, 1, 1, 0, 0)
+                : lastRefresh.minusNanos(overlapMs * 1_000_000L);
+        int added = 0;
+        for (RevokedToken token : revokedTokenRepository.findActiveRevokedSince(since, now)) {
+            long expiresAt = token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (revokedTokens.put(token.getJti(), expiresAt) == null) {
+                added++;
+            }
+        }
+        lastRefresh = now;
+
+        for (Object[] row : userRepository.findTokenEpochs()) {
+            userEpochs.merge((Long) row[0], (Integer) row[1], Math::max);
+        }
+
+        // Expired tokens fail signature checks anyway, so their entries can go
+        long nowMillis = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        int purged = revokedTokenRepository.deleteExpired(now);
+        if (added > 0 || purged > 0) {
+            logger.debug("Token denylist: {} newly revoked, {} purged, {} active, {} user epochs",
+                    added, purged, revokedTokens.size(), userEpochs.size());
+        }
+    }
+}
@@ -19,11 +19,12 @@ public class UserDetailsImpl implements UserDetails {
     private String lastName;
     private User.Role role;
     private User.LoyaltyTier loyaltyTier;
+    private int tokenEpoch;
 
     private Collection<? extends GrantedAuthority> authorities;
 
     public UserDetailsImpl(Long id, String email, String password, String firstName, String lastName,
-                          User.Role role, User.LoyaltyTier loyaltyTier,
+                          User.Role role, User.LoyaltyTier loyaltyTier, int tokenEpoch,
                           Collection<? extends GrantedAuthority> authorities) {
         this.id = id;
         this.email = email;
@@ -32,12 +33,11 @@ public class UserDetailsImpl implements UserDetails {
         this.lastName = lastName;
         this.role = role;
         this.loyaltyTier = loyaltyTier;
+        this.tokenEpoch = tokenEpoch;
         this.authorities = authorities;
     }
 
     public static UserDetailsImpl build(User user) {
-        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-
         return new UserDetailsImpl(
                 user.getId(),
                 user.getEmail(),
@@ -46,7 +46,12 @@ public class UserDetailsImpl implements UserDetails {
                 user.getLastName(),
                 user.getRole(),
                 user.getLoyaltyTier(),
-                authorities);
+                user.getTokenEpoch() == null ? 0 : user.getTokenEpoch(),
+                authoritiesOf(user.getRole()));
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(User.Role role) {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -60,6 +65,7 @@ public class UserDetailsImpl implements UserDetails {
     public String getLastName() { return lastName; }
     public String getRole() { return role.name(); }
     public String getLoyaltyTier() { return loyaltyTier.name(); }
+    public int getTokenEpoch() { return tokenEpoch; }
 
     @Override
     public String getPassword() { return password; }
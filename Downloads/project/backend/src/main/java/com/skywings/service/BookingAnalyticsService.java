@@ -0,0 +1,178 @@
+package com.skywings.service;
+
+import com.skywings.dto.AnalyticsDashboard;
+import com.skywings.model.Booking;
+import com.skywings.model.Flight;
+import com.skywings.model.User;
+import com.skywings.repository.AnalyticsRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the admin analytics rollups current. Each booking change adds its deltas
+ * to the rollup rows inside the same transaction, so the figures commit or roll
+ * back with the booking and stay correct across nodes. The dashboard reads a
+ * few dozen pre-aggregated rows however many bookings there are.
+ */
+@Service
+@Transactional
+public class BookingAnalyticsService implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(BookingAnalyticsService.class);
+    private static final int SLOTS = 8;
+    private static final int TOP_ROUTES = 10;
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    static final String MONTH_METRIC = "month";
+    static final String ROUTE_METRIC = "route";
+    static final String STATUS_METRIC = "status";
+    static final String TIER_METRIC = "tier";
+
+    @Autowired
+    private AnalyticsRollupRepository analyticsRollupRepository;
+
+    public void bookingCreated(Booking booking) {
+        int slot = slot();
+        analyticsRollupRepository.apply(List.of(
+                delta(MONTH_METRIC, month(booking.getBookingDate()), slot, 1, booking.getPaidAmount()),
+                delta(ROUTE_METRIC, route(booking.getFlight()), slot, 1, booking.getPaidAmount()),
+                delta(STATUS_METRIC, booking.getStatus().name(), slot, 1, BigDecimal.ZERO)));
+    }
+
+    public void paymentCompleted(Booking booking, BigDecimal amount) {
+        int slot = slot();
+        analyticsRollupRepository.apply(List.of(
+                delta(MONTH_METRIC, month(booking.getBookingDate()), slot, 0, amount),
+                delta(ROUTE_METRIC, route(booking.getFlight()), slot, 0, amount),
+                delta(STATUS_METRIC, Booking.BookingStatus.BLOCKED.name(), slot, -1, BigDecimal.ZERO),
+                delta(STATUS_METRIC, Booking.BookingStatus.CONFIRMED.name(), slot, 1, BigDecimal.ZERO)));
+    }
+
+    // Cancellation does not refund, so revenue stays; the booking leaves the counts
+    public void bookingCancelled(Booking booking, Booking.BookingStatus previousStatus) {
+        bookingsCancelled(Map.of(month(booking.getBookingDate()), 1L), Map.of(route(booking.getFlight()), 1L),
+                Map.of(previousStatus, 1L));
+    }
+
+    public void bookingsCancelled(Map<String, Long> byMonth, Map<String, Long> byRoute,
+                                  Map<Booking.BookingStatus, Long> byPreviousStatus) {
+        int slot = slot();
+        List<AnalyticsRollupRepository.Delta> deltas = new ArrayList<>();
+        byMonth.forEach((month, n) -> deltas.add(delta(MONTH_METRIC, month, slot, -n, BigDecimal.ZERO)));
+        byRoute.forEach((route, n) -> deltas.add(delta(ROUTE_METRIC, route, slot, -n, BigDecimal.ZERO)));
+        long total = 0;
+        for (Map.Entry<Booking.BookingStatus, Long> entry : byPreviousStatus.entrySet()) {
+            deltas.add(delta(STATUS_METRIC, entry.getKey().name(), slot, -entry.getValue(), BigDecimal.ZERO));
+            total += entry.getValue();
+        }
+        deltas.add(delta(STATUS_METRIC, Booking.BookingStatus.CANCELLED.name(), slot, total, BigDecimal.ZERO));
+        analyticsRollupRepository.apply(deltas);
+    }
+
+    public void userRegistered(User user) {
+        analyticsRollupRepository.apply(List.of(
+                delta(TIER_METRIC, user.getLoyaltyTier().name(), slot(), 1, BigDecimal.ZERO)));
+    }
+
+    public void tierChanged(User.LoyaltyTier from, User.LoyaltyTier to) {
+        int slot = slot();
+        analyticsRollupRepository.apply(List.of(
+                delta(TIER_METRIC, from.name(), slot, -1, BigDecimal.ZERO),
+                delta(TIER_METRIC, to.name(), slot, 1, BigDecimal.ZERO)));
+    }
+
+    @Transactional(readOnly = true)
+    public AnalyticsDashboard getDashboard() {
+        List<AnalyticsDashboard.Bucket> monthly = buckets(MONTH_METRIC);
+        monthly.sort(Comparator.comparing(AnalyticsDashboard.Bucket::name));
+        List<AnalyticsDashboard.Bucket> routes = buckets(ROUTE_METRIC);
+        routes.sort(Comparator.comparingLong(AnalyticsDashboard.Bucket::bookings).reversed()
+                .thenComparing(AnalyticsDashboard.Bucket::name));
+
+        long totalBookings = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (AnalyticsDashboard.Bucket month : monthly) {
+            totalBookings += month.bookings();
+            totalRevenue = totalRevenue.add(month.revenue());
+        }
+        BigDecimal average = totalBookings == 0 ? BigDecimal.ZERO
+                : totalRevenue.divide(BigDecimal.valueOf(totalBookings), 2, RoundingMode.HALF_UP);
+
+        return new AnalyticsDashboard(totalBookings, totalRevenue, average, monthly,
+                routes.subList(0, Math.min(TOP_ROUTES, routes.size())),
+                counts(STATUS_METRIC, Booking.BookingStatus.values()),
+                counts(TIER_METRIC, User.LoyaltyTier.values()));
+    }
+
+    /**
+     * Recomputes every rollup from bookings and users, e.g. after a restore.
+     * Changes committed while it runs may be counted twice or missed, so run it
+     * when booking traffic is quiet.
+     */
+    public void rebuild() {
+        analyticsRollupRepository.rebuild();
+    }
+
+    // Seeds the rollups for data that existed before they did
+    @Override
+    public void run(ApplicationArguments args) {
+        if (analyticsRollupRepository.isEmpty()) {
+            analyticsRollupRepository.rebuild();
+            logger.info("Seeded analytics rollups from existing bookings");
+        }
+    }
+
+    static String month(LocalDateTime time) {
+        return time.format(MONTH);
+    }
+
+    static String route(Flight flight) {
+        String origin = flight.getOriginCode() != null ? flight.getOriginCode() : flight.getOrigin();
+        String destination = flight.getDestinationCode() != null ? flight.getDestinationCode() : flight.getDestination();
+        return origin + "-" + destination;
+    }
+
+    private List<AnalyticsDashboard.Bucket> buckets(String metric) {
+        List<AnalyticsDashboard.Bucket> buckets = new ArrayList<>();
+        for (AnalyticsRollupRepository.Total total : analyticsRollupRepository.totals(metric)) {
+            buckets.add(new AnalyticsDashboard.Bucket(total.bucket(), total.bookings(), total.revenue()));
+        }
+        return buckets;
+    }
+
+    private Map<String, Long> counts(String metric, Enum<?>[] keys) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Enum<?> key : keys) {
+            counts.put(key.name(), 0L);
+        }
+        for (AnalyticsRollupRepository.Total total : analyticsRollupRepository.totals(metric)) {
+            counts.put(total.bucket(), total.bookings());
+        }
+        return counts;
+    }
+
+    private static AnalyticsRollupRepository.Delta delta(String metric, String bucket, int slot, long bookings,
+                                                         BigDecimal revenue) {
+        return new AnalyticsRollupRepository.Delta(metric, bucket, slot, bookings,
+                revenue == null ? BigDecimal.ZERO : revenue);
+    }
+
+    private static int slot() {
+        return ThreadLocalRandom.current().nextInt(SLOTS);
+    }
+}
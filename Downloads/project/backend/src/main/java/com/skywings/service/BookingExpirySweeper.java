@@ -0,0 +1,129 @@
+package com.skywings.service;
+
+import com.skywings.dto.BookingSweepStats;
+import com.skywings.model.Booking;
+import com.skywings.model.Seat;
+import com.skywings.repository.BookingBatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cancels BLOCKED bookings whose payment is overdue and returns their seats to
+ * sale. Works in chunks of {@code chunk-size}, one transaction each: lock a
+ * chunk of expired bookings (SKIP LOCKED, so concurrent nodes never collide),
+ * cancel them and free their seats with set-based updates, then move each
+ * affected flight's counters by one batched update. In-memory seat inventory
+ * follows after commit, and the search cache is cleared once per run.
+ */
+@Component
+public class BookingExpirySweeper {
+    private static final Logger logger = LoggerFactory.getLogger(BookingExpirySweeper.class);
+
+    @Autowired
+    private BookingBatchRepository bookingBatchRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private FlightSearchCache flightSearchCache;
+
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${skywings.bookings.expiry-sweep.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${skywings.bookings.expiry-sweep.max-chunks:50}")
+    private int maxChunks;
+
+    // Written only by the scheduler thread; read by the admin endpoint
+    private volatile BookingSweepStats stats = new BookingSweepStats(0, null, 0, 0, 0, 0, 0, 0);
+
+    @Scheduled(initialDelayString = "${skywings.bookings.expiry-sweep.interval-ms:60000}",
+               fixedDelayString = "${skywings.bookings.expiry-sweep.interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        long cancelled = 0;
+        long reclaimed = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int[] result = transactionTemplate.execute(status -> sweepChunk(startedAt));
+            cancelled += result[0];
+            reclaimed += result[1];
+            if (result[0] < chunkSize) {
+                break;
+            }
+        }
+        if (reclaimed > 0) {
+            flightSearchCache.invalidateAll();
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        BookingSweepStats previous = stats;
+        stats = new BookingSweepStats(previous.runs() + 1, startedAt, elapsedMillis,
+                Math.max(previous.maxRunMillis(), elapsedMillis), cancelled, reclaimed,
+                previous.totalCancelled() + cancelled, previous.totalSeatsReclaimed() + reclaimed);
+        if (cancelled > 0) {
+            logger.info("Expired {} unpaid blocked bookings and reclaimed {} seats in {} ms",
+                    cancelled, reclaimed, elapsedMillis);
+        }
+    }
+
+    public BookingSweepStats getStats() {
+        return stats;
+    }
+
+    // Returns {bookings cancelled, seats reclaimed}
+    private int[] sweepChunk(LocalDateTime now) {
+        List<BookingBatchRepository.ExpiredBooking> expired = bookingBatchRepository.lockExpiredBlocked(now, chunkSize);
+        if (expired.isEmpty()) {
+            return new int[] {0, 0};
+        }
+        List<Long> bookingIds = new ArrayList<>(expired.size());
+        List<Long> seatIds = new ArrayList<>(expired.size());
+        for (BookingBatchRepository.ExpiredBooking booking : expired) {
+            bookingIds.add(booking.bookingId());
+            seatIds.add(booking.seatId());
+        }
+        int cancelled = bookingBatchRepository.cancelBlocked(bookingIds);
+        Map<String, Long> byMonth = new HashMap<>();
+        Map<String, Long> byRoute = new HashMap<>();
+        for (BookingBatchRepository.ExpiredBooking booking : expired) {
+            byMonth.merge(BookingAnalyticsService.month(booking.bookingDate()), 1L, Long::sum);
+            byRoute.merge(booking.route(), 1L, Long::sum);
+        }
+        bookingAnalyticsService.bookingsCancelled(byMonth, byRoute, Map.of(Booking.BookingStatus.BLOCKED, (long) cancelled));
+        List<BookingBatchRepository.ReleasedSeat> released = bookingBatchRepository.releaseSeats(seatIds);
+
+        // {total, first, business, economy} per flight
+        Map<Long, int[]> deltas = new HashMap<>();
+        for (BookingBatchRepository.ReleasedSeat seat : released) {
+            int[] delta = deltas.computeIfAbsent(seat.flightId(), id -> new int[4]);
+            delta[0]++;
+            delta[seat.type() == Seat.SeatType.FIRST ? 1 : seat.type() == Seat.SeatType.BUSINESS ? 2 : 3]++;
+        }
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        deltas.forEach((flightId, d) -> updates.add(new Object[] {d[0], d[1], d[2], d[3], flightId}));
+        bookingBatchRepository.adjustAvailableSeats(updates);
+
+        for (BookingBatchRepository.ReleasedSeat seat : released) {
+            seatInventoryService.seatReleased(seat.flightId(), seat.seatId());
+        }
+        return new int[] {cancelled, released.size()};
+    }
+}
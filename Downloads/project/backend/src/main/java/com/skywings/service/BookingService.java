@@ -1,12 +1,17 @@
 package com.skywings.service;
 
 import com.skywings.dto.BookingRequest;
+import com.skywings.dto.BookingSummary;
+import com.skywings.dto.CursorPage;
+import com.skywings.dto.PageCursor;
 import com.skywings.dto.PaymentRequest;
 import com.skywings.model.*;
 import com.skywings.repository.*;
 import com.skywings.exception.ResourceNotFoundException;
 import com.skywings.exception.BookingException;
+import com.skywings.exception.SeatUnavailableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
@@ -31,24 +36,39 @@ public class BookingService {
     
     @Autowired
     private FlightService flightService;
+    
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+    
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+    
+    @Autowired
+    private FareCalculator fareCalculator;
 
-    public Booking createBooking(BookingRequest request, Long userId) {
+    public BookingSummary createBooking(BookingRequest request, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         Flight flight = flightRepository.findById(request.getFlightId())
                 .orElseThrow(() -> new ResourceNotFoundException("Flight not found"));
         
+        // Claim the seat atomically so concurrent requests cannot both win it
+        if (seatRepository.claimSeat(request.getSeatId(), flight.getId()) == 0) {
+            Seat existing = seatRepository.findById(request.getSeatId())
+                    .filter(s -> s.getFlight().getId().equals(flight.getId()))
+                    .orElseThrow(() -> new ResourceNotFoundException("Seat not found"));
+            throw new SeatUnavailableException("Seat " + existing.getSeatRow() + existing.getSeatColumn()
+                    + " is not available");
+        }
+        
         Seat seat = seatRepository.findById(request.getSeatId())
                 .orElseThrow(() -> new ResourceNotFoundException("Seat not found"));
-        
-        // Check if seat is available
-        if (seat.getStatus() != Seat.SeatStatus.AVAILABLE) {
-            throw new BookingException("Seat is not available");
-        }
+        seatInventoryService.seatOccupied(flight.getId(), seat.getId());
         
         // Calculate total amount
-        BigDecimal totalAmount = calculateTotalAmount(flight, seat, request, user);
+        BigDecimal totalAmount = fareCalculator.calculateTotalAmount(flight, seat, request.getBaggageWeight(),
+                user.getLoyaltyTier());
         
         // Create booking
         Booking booking = new Booking();
@@ -61,13 +81,13 @@ public class BookingService {
         booking.setIsBlocking(request.getIsBlocking());
         
         // Calculate baggage charges
-        if (request.getBaggageWeight() > 23) {
-            booking.setExtraBaggageWeight(request.getBaggageWeight() - 23);
-            booking.setBaggageCharges(BigDecimal.valueOf((request.getBaggageWeight() - 23) * 15));
+        if (request.getBaggageWeight() > FareCalculator.FREE_BAGGAGE_KG) {
+            booking.setExtraBaggageWeight(fareCalculator.extraBaggageWeight(request.getBaggageWeight()));
+            booking.setBaggageCharges(fareCalculator.baggageCharges(request.getBaggageWeight()));
         }
         
         // Apply loyalty discount
-        int discount = getLoyaltyDiscount(user.getLoyaltyTier());
+        int discount = fareCalculator.getLoyaltyDiscount(user.getLoyaltyTier());
         booking.setDiscountApplied(discount);
         
         // Set payment amounts
@@ -82,25 +102,40 @@ public class BookingService {
             booking.setStatus(Booking.BookingStatus.CONFIRMED);
         }
         
-        // Update seat status
-        seat.setStatus(Seat.SeatStatus.OCCUPIED);
-        seatRepository.save(seat);
-        
         // Update flight available seats
-        flightService.updateAvailableSeats(flight.getId());
+        flightService.seatBooked(flight, seat.getType());
         
         // Update user flight count
         user.setTotalFlights(user.getTotalFlights() + 1);
         updateUserLoyaltyTier(user);
         userRepository.save(user);
         
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingAnalyticsService.bookingCreated(savedBooking);
+        return BookingSummary.from(savedBooking);
     }
 
-    public List<Booking> getUserBookings(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return bookingRepository.findByUserOrderByBookingDateDesc(user);
+    @Transactional(readOnly = true)
+    public CursorPage<BookingSummary> getUserBookings(Long userId, String cursor, Integer size) {
+        int limit = CursorPage.clampSize(size);
+        PageCursor before = PageCursor.decode(cursor);
+        List<BookingSummary> rows = before == null
+                ? bookingRepository.findUserFirstPage(userId, PageRequest.ofSize(limit + 1))
+                : bookingRepository.findUserPageBefore(userId, before.timestamp(), before.id(),
+                        PageRequest.ofSize(limit + 1));
+        return CursorPage.of(rows, limit, b -> new PageCursor(b.bookingDate(), b.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public BookingSummary getBookingSummary(Long bookingId, Long userId) {
+        BookingSummary booking = bookingRepository.findSummaryById(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+        
+        if (!booking.userId().equals(userId)) {
+            throw new BookingException("Access denied");
+        }
+        
+        return booking;
     }
 
     public Booking getBookingById(Long bookingId, Long userId) {
@@ -114,72 +149,73 @@ public class BookingService {
         return booking;
     }
 
-    public Booking completePayment(Long bookingId, PaymentRequest paymentRequest, Long userId) {
-        Booking booking = getBookingById(bookingId, userId);
+    private Booking lockBookingById(Long bookingId, Long userId) {
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+        
+        if (!booking.getUser().getId().equals(userId)) {
+            throw new BookingException("Access denied");
+        }
+        
+        return booking;
+    }
+
+    public BookingSummary completePayment(Long bookingId, PaymentRequest paymentRequest, Long userId) {
+        Booking booking = lockBookingById(bookingId, userId);
         
         if (booking.getStatus() != Booking.BookingStatus.BLOCKED) {
             throw new BookingException("Booking is not in blocked status");
         }
         
+        BigDecimal collected = booking.getRemainingAmount();
         booking.setPaidAmount(booking.getTotalAmount());
         booking.setRemainingAmount(BigDecimal.ZERO);
         booking.setStatus(Booking.BookingStatus.CONFIRMED);
+        bookingAnalyticsService.paymentCompleted(booking, collected);
         
-        return bookingRepository.save(booking);
+        return BookingSummary.from(bookingRepository.save(booking));
     }
 
     public void cancelBooking(Long bookingId, Long userId) {
-        Booking booking = getBookingById(bookingId, userId);
+        // Locked so a concurrent cancel or the expiry sweeper cannot cancel it a second time
+        Booking booking = lockBookingById(bookingId, userId);
+        
+        if (booking.getStatus() == Booking.BookingStatus.CANCELLED) {
+            throw new BookingException("Booking is already cancelled");
+        }
         
         // Check if cancellation is allowed (24 hours before departure)
         if (booking.getFlight().getDepartureTime().isBefore(LocalDateTime.now().plusHours(24))) {
             throw new BookingException("Cannot cancel booking less than 24 hours before departure");
         }
         
+        Booking.BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         
         // Free up the seat
-        booking.getSeat().setStatus(Seat.SeatStatus.AVAILABLE);
-        seatRepository.save(booking.getSeat());
-        
-        // Update flight available seats
-        flightService.updateAvailableSeats(booking.getFlight().getId());
-        
-        bookingRepository.save(booking);
-    }
-
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
-    }
-
-    private BigDecimal calculateTotalAmount(Flight flight, Seat seat, BookingRequest request, User user) {
-        BigDecimal amount = flight.getPrice().add(seat.getUpgradePrice());
-        
-        // Add baggage charges
-        if (request.getBaggageWeight() > 23) {
-            amount = amount.add(BigDecimal.valueOf((request.getBaggageWeight() - 23) * 15));
+        if (seatRepository.releaseSeat(booking.getSeat().getId(), booking.getId()) > 0) {
+            seatInventoryService.seatReleased(booking.getFlight().getId(), booking.getSeat().getId());
+            
+            // Update flight available seats
+            flightService.seatReleased(booking.getFlight(), booking.getSeat().getType());
         }
         
-        // Apply loyalty discount
-        int discount = getLoyaltyDiscount(user.getLoyaltyTier());
-        if (discount > 0) {
-            BigDecimal discountAmount = amount.multiply(BigDecimal.valueOf(discount / 100.0));
-            amount = amount.subtract(discountAmount);
-        }
-        
-        return amount;
+        bookingAnalyticsService.bookingCancelled(booking, previousStatus);
+        bookingRepository.save(booking);
     }
 
-    private int getLoyaltyDiscount(User.LoyaltyTier tier) {
-        switch (tier) {
-            case SILVER: return 5;
-            case GOLD: return 10;
-            case PLATINUM: return 15;
-            default: return 0;
-        }
+    @Transactional(readOnly = true)
+    public CursorPage<BookingSummary> getAllBookings(String cursor, Integer size) {
+        int limit = CursorPage.clampSize(size);
+        PageCursor before = PageCursor.decode(cursor);
+        List<BookingSummary> rows = before == null
+                ? bookingRepository.findFirstPage(PageRequest.ofSize(limit + 1))
+                : bookingRepository.findPageBefore(before.timestamp(), before.id(), PageRequest.ofSize(limit + 1));
+        return CursorPage.of(rows, limit, b -> new PageCursor(b.bookingDate(), b.id()));
     }
 
     private void updateUserLoyaltyTier(User user) {
+        User.LoyaltyTier previousTier = user.getLoyaltyTier();
         int totalFlights = user.getTotalFlights();
         if (totalFlights >= 50) {
             user.setLoyaltyTier(User.LoyaltyTier.PLATINUM);
@@ -188,5 +224,8 @@ public class BookingService {
         } else if (totalFlights >= 10) {
             user.setLoyaltyTier(User.LoyaltyTier.SILVER);
         }
+        if (user.getLoyaltyTier() != previousTier) {
+            bookingAnalyticsService.tierChanged(previousTier, user.getLoyaltyTier());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.skywings.service;
+
+import com.skywings.analytics.BookingSnapshot;
+import com.skywings.analytics.SnapshotQuery;
+import com.skywings.dto.AnalyticsQueryRequest;
+import com.skywings.dto.AnalyticsQueryResult;
+import com.skywings.exception.InvalidRequestException;
+import com.skywings.exception.ServiceBusyException;
+import com.skywings.repository.BookingBatchRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Serves ad-hoc admin queries from a columnar in-memory copy of the bookings,
+ * rebuilt periodically by keyset paging. Queries never touch MySQL; answers are
+ * as fresh as the last refresh ({@code snapshotTakenAt} in each result).
+ */
+@Service
+public class BookingSnapshotService {
+    private static final Logger logger = LoggerFactory.getLogger(BookingSnapshotService.class);
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 10000;
+
+    @Autowired
+    private BookingBatchRepository bookingBatchRepository;
+
+    @Value("${skywings.analytics.snapshot.page-size:10000}")
+    private int pageSize;
+
+    private final ForkJoinPool pool;
+    private volatile BookingSnapshot snapshot;
+
+    public BookingSnapshotService(@Value("${skywings.analytics.snapshot.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Scheduled(initialDelayString = "${skywings.analytics.snapshot.initial-delay-ms:10000}",
+               fixedDelayString = "${skywings.analytics.snapshot.refresh-ms:300000}")
+    public void refresh() {
+        long started = System.currentTimeMillis();
+        // Sized up front; bookings made during the refresh grow it slightly
+        long expected = bookingBatchRepository.maxBookingId();
+        BookingSnapshot.Builder builder = BookingSnapshot.builder((int) Math.min(expected + pageSize,
+                Integer.MAX_VALUE - 8));
+        long afterId = 0L;
+        while (afterId >= 0) {
+            afterId = bookingBatchRepository.appendSnapshotPage(builder, afterId, pageSize);
+        }
+        snapshot = builder.build();
+        logger.info("Booking analytics snapshot refreshed: {} bookings in {} ms",
+                snapshot.size(), System.currentTimeMillis() - started);
+    }
+
+    public AnalyticsQueryResult query(AnalyticsQueryRequest request) {
+        BookingSnapshot current = snapshot;
+        if (current == null) {
+            throw new ServiceBusyException("Analytics snapshot is still loading, please retry shortly");
+        }
+        long started = System.nanoTime();
+
+        Map<BookingSnapshot.Dimension, Predicate<String>> filters = new EnumMap<>(BookingSnapshot.Dimension.class);
+        if (request.getFilters() != null) {
+            request.getFilters().forEach((dimension, values) -> {
+                Set<String> accepted = values.stream()
+                        .map(v -> v.toUpperCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+                filters.put(dimension, value -> accepted.contains(value.toUpperCase(Locale.ROOT)));
+            });
+        }
+        if (request.getFromMonth() != null || request.getToMonth() != null) {
+            // "yyyy-MM" sorts chronologically as text
+            String from = request.getFromMonth();
+            String to = request.getToMonth();
+            Predicate<String> inRange = month -> (from == null || month.compareTo(from) >= 0)
+                    && (to == null || month.compareTo(to) <= 0);
+            filters.merge(BookingSnapshot.Dimension.BOOKING_MONTH, inRange, Predicate::and);
+        }
+        List<BookingSnapshot.Dimension> groupBy = request.getGroupBy() == null ? List.of() : request.getGroupBy();
+        List<BookingSnapshot.Measure> measures = request.getMeasures() == null ? List.of() : request.getMeasures();
+
+        SnapshotQuery.Result result;
+        try {
+            result = SnapshotQuery.run(current, filters, groupBy, measures, pool);
+        } catch (ArithmeticException e) {
+            throw new InvalidRequestException("Too many groups; group by fewer dimensions");
+        }
+
+        Comparator<SnapshotQuery.Group> order = measures.isEmpty()
+                ? Comparator.comparingLong(SnapshotQuery.Group::count)
+                : Comparator.comparingLong(g -> g.sums()[0]);
+        int limit = Math.min(request.getLimit() == null ? DEFAULT_LIMIT : Math.max(1, request.getLimit()), MAX_LIMIT);
+        List<AnalyticsQueryResult.Row> rows = new ArrayList<>();
+        result.groups().stream().sorted(order.reversed()).limit(limit).forEach(group -> {
+            List<String> keys = new ArrayList<>(groupBy.size());
+            for (int g = 0; g < groupBy.size(); g++) {
+                keys.add(current.value(groupBy.get(g), group.codes()[g]));
+            }
+            Map<BookingSnapshot.Measure, BigDecimal> values = new EnumMap<>(BookingSnapshot.Measure.class);
+            for (int m = 0; m < measures.size(); m++) {
+                values.put(measures.get(m), BigDecimal.valueOf(group.sums()[m], 2));
+            }
+            rows.add(new AnalyticsQueryResult.Row(keys, group.count(), values));
+        });
+
+        return new AnalyticsQueryResult(current.getTakenAt(), current.size(), result.matched(),
+                (System.nanoTime() - started) / 1000, groupBy, rows);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,163 @@
+package com.skywings.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.skywings.dto.BookingSummary;
+import com.skywings.dto.FlightSummary;
+import com.skywings.exception.InvalidRequestException;
+import com.skywings.repository.BookingRepository;
+import com.skywings.repository.FlightRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes every booking or flight to an output stream as NDJSON or CSV while
+ * reading them through a forward-only database cursor. Rows are converted and
+ * written one at a time and the persistence context is cleared as it goes, so
+ * memory use does not grow with the number of rows; a slow client simply
+ * slows the read down.
+ */
+@Service
+public class DataExportService {
+    private static final Logger logger = LoggerFactory.getLogger(DataExportService.class);
+    private static final int CLEAR_EVERY = 500;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format {
+        CSV("text/csv"), NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() { return contentType; }
+
+        public String getExtension() { return name().toLowerCase(Locale.ROOT); }
+
+        public static Format of(String value) {
+            try {
+                return value == null ? NDJSON : valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportBookings(OutputStream out, Format format) throws IOException {
+        try (Stream<BookingSummary> rows = bookingRepository.streamAll().map(BookingSummary::from)) {
+            return write(rows, BookingSummary.class, out, format);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportFlights(OutputStream out, Format format) throws IOException {
+        try (Stream<FlightSummary> rows = flightRepository.streamAll().map(FlightSummary::from)) {
+            return write(rows, FlightSummary.class, out, format);
+        }
+    }
+
+    private <T extends Record> long write(Stream<T> rows, Class<T> type, OutputStream out, Format format)
+            throws IOException {
+        long started = System.currentTimeMillis();
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        if (format == Format.NDJSON) {
+            try (SequenceWriter writer = objectMapper.writerFor(type)
+                    .withRootValueSeparator("\n")
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValues(out)) {
+                while (iterator.hasNext()) {
+                    writer.write(iterator.next());
+                    count = written(count);
+                }
+            }
+            if (count > 0) {
+                out.write('\n');
+            }
+        } else {
+            RecordComponent[] columns = type.getRecordComponents();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvLine(writer, columns, RecordComponent::getName);
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writeCsvLine(writer, columns, column -> csvValue(read(column, row)));
+                count = written(count);
+            }
+            writer.flush();
+        }
+        logger.info("Exported {} {} rows as {} in {} ms", count, type.getSimpleName(), format,
+                System.currentTimeMillis() - started);
+        return count;
+    }
+
+    // The row has already been converted, so its entities can leave the persistence context
+    private long written(long count) {
+        if (++count % CLEAR_EVERY == 0) {
+            entityManager.clear();
+        }
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, RecordComponent[] columns, Function<RecordComponent, String> value)
+            throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(value.apply(columns[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static Object read(RecordComponent column, Object row) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + column.getName(), e);
+        }
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
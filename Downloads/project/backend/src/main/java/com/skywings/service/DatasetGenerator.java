@@ -0,0 +1,377 @@
+package com.skywings.service;
+
+import com.skywings.dto.GeneratedDataset;
+import com.skywings.model.AirportCodes;
+import com.skywings.model.Booking;
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import com.skywings.model.SeatLayoutTemplate;
+import com.skywings.model.User;
+import com.skywings.repository.BookingBatchRepository;
+import com.skywings.repository.FlightBatchRepository;
+import com.skywings.repository.SeatBatchRepository;
+import com.skywings.repository.UserBatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a synthetic dataset of realistic shape for performance work: users
+ * with a skewed loyalty mix, a year of flights with seats laid out from
+ * {@link SeatLayoutRegistry}, and bookings filling those seats with a
+ * BLOCKED / CONFIRMED / CANCELLED split. Everything goes through the batched
+ * JDBC repositories, one transaction per chunk; flight counters and seat
+ * statuses are planned up front so they agree with the bookings. The same
+ * {@link Spec} always produces the same rows.
+ */
+@Service
+public class DatasetGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final List<String> CITIES = List.of("New York (JFK)", "Los Angeles (LAX)", "Chicago (ORD)",
+            "Miami (MIA)", "Boston (BOS)", "San Francisco (SFO)", "Seattle (SEA)", "Washington (IAD)",
+            "Atlanta (ATL)", "Dallas (DFW)", "Houston (IAH)", "Denver (DEN)", "Las Vegas (LAS)", "Orlando (MCO)",
+            "London (LHR)", "Paris (CDG)", "Tokyo (HND)", "Dubai (DXB)", "Delhi (DEL)", "Mumbai (BOM)");
+    private static final List<String> AIRLINES = List.of("SkyWings", "SkyWings Express", "SkyWings Connect");
+    private static final List<String> AIRCRAFT = List.of("Airbus A320", "Airbus A321", "Boeing 737",
+            "Boeing 787", "Boeing 777", "Airbus A350");
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer",
+            "Michael", "Linda", "David", "Elizabeth", "Wei", "Priya", "Carlos", "Aisha", "Yuki", "Olga"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+            "Miller", "Davis", "Martinez", "Lopez", "Chen", "Patel", "Kim", "Nguyen", "Sato", "Ivanova"};
+    private static final User.LoyaltyTier[] TIERS = User.LoyaltyTier.values();
+    private static final int SEAT_FREE = 0;
+    private static final int SEAT_CONFIRMED = 1;
+    private static final int SEAT_BLOCKED = 2;
+    private static final int SEAT_CANCELLED = 4; // flag: the seat also carries a cancelled booking
+    private static final int IN_LIST_SIZE = 1000;
+
+    @Autowired
+    private UserBatchRepository userBatchRepository;
+
+    @Autowired
+    private FlightBatchRepository flightBatchRepository;
+
+    @Autowired
+    private SeatBatchRepository seatBatchRepository;
+
+    @Autowired
+    private BookingBatchRepository bookingBatchRepository;
+
+    @Autowired
+    private SeatLayoutRegistry seatLayoutRegistry;
+
+    @Autowired
+    private SeatFeatureCatalog seatFeatureCatalog;
+
+    @Autowired
+    private FareCalculator fareCalculator;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Autowired
+    private FlightSearchCache flightSearchCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * What to generate. Flights depart across {@code days} centred on
+     * {@code asOf}, which also decides which flights have departed and which
+     * bookings can still be BLOCKED. Users are {@code <prefix><n>@skywings.com}
+     * and flights {@code <PREFIX><n>}, so a prefix can only be generated once.
+     */
+    public record Spec(int users,
+                       int flights,
+                       int days,
+                       double loadFactor,
+                       LocalDateTime asOf,
+                       long seed,
+                       int chunkSize,
+                       int batchSize,
+                       String prefix,
+                       String password) {
+
+        public Spec {
+            if (users <= 0 || flights < 0 || days <= 0 || chunkSize <= 0 || batchSize <= 0) {
+                throw new IllegalArgumentException("users, days, chunkSize and batchSize must be positive");
+            }
+            if (loadFactor < 0 || loadFactor > 1) {
+                throw new IllegalArgumentException("loadFactor must be between 0 and 1");
+            }
+            if (prefix == null || !prefix.matches("[A-Za-z]{1,4}")) {
+                throw new IllegalArgumentException("prefix must be 1 to 4 letters");
+            }
+        }
+
+        /** A year of flights around midnight today, 80% full, with default chunking. */
+        public static Spec of(int users, int flights, long seed) {
+            return new Spec(users, flights, 365, 0.8, LocalDateTime.now().truncatedTo(ChronoUnit.DAYS), seed,
+                    200, 5000, "dg", "datagen123");
+        }
+    }
+
+    // Per user, only what bookings need: the database id and the loyalty tier
+    private record Users(long[] ids, byte[] tiers) {
+    }
+
+    private record PlannedFlight(Flight flight, SeatLayoutTemplate layout, byte[] seats) {
+    }
+
+    public GeneratedDataset generate(Spec spec) {
+        long started = System.currentTimeMillis();
+        if (!userBatchRepository.findIdsByEmails(List.of(email(spec, 0))).isEmpty()
+                || !flightBatchRepository.findIdsByFlightNumbers(List.of(flightNumber(spec, 0))).isEmpty()) {
+            throw new IllegalStateException("A dataset with prefix '" + spec.prefix() + "' already exists");
+        }
+
+        // Separate streams, so e.g. more users does not reshuffle the flights
+        SplittableRandom root = new SplittableRandom(spec.seed());
+        SplittableRandom userRandom = root.split();
+        SplittableRandom flightRandom = root.split();
+        SplittableRandom bookingRandom = root.split();
+
+        Users users = insertUsers(spec, userRandom);
+        logger.info("Generated {} users in {} ms", spec.users(), System.currentTimeMillis() - started);
+
+        long[] statusCounts = new long[Booking.BookingStatus.values().length];
+        long seats = 0;
+        LocalDateTime firstDeparture = spec.asOf().minusDays(spec.days() / 2);
+        for (int from = 0; from < spec.flights(); from += spec.chunkSize()) {
+            int to = Math.min(spec.flights(), from + spec.chunkSize());
+            List<PlannedFlight> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(planFlight(spec, i, firstDeparture, flightRandom));
+                seats += chunk.get(chunk.size() - 1).seats().length;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    insertFlights(spec, chunk, users, bookingRandom, statusCounts));
+            if ((from / spec.chunkSize()) % 50 == 49) {
+                logger.info("Generated {} of {} flights", to, spec.flights());
+            }
+        }
+
+        flightSearchCache.invalidateAll();
+        bookingAnalyticsService.rebuild();
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long bookings = 0;
+        for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+            if (statusCounts[status.ordinal()] > 0) {
+                byStatus.put(status.name(), statusCounts[status.ordinal()]);
+                bookings += statusCounts[status.ordinal()];
+            }
+        }
+        GeneratedDataset result = new GeneratedDataset(spec.users(), spec.flights(), seats, bookings, byStatus,
+                System.currentTimeMillis() - started);
+        logger.info("Generated dataset '{}': {}", spec.prefix(), result);
+        return result;
+    }
+
+    private Users insertUsers(Spec spec, SplittableRandom random) {
+        // One hash for everyone; hashing millions of passwords would dominate the run
+        String hash = passwordEncoder.encode(spec.password());
+        long[] ids = new long[spec.users()];
+        byte[] tiers = new byte[spec.users()];
+        for (int from = 0; from < spec.users(); from += spec.batchSize()) {
+            int to = Math.min(spec.users(), from + spec.batchSize());
+            List<User> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                // Mostly BRONZE, with flight counts matching each tier's threshold
+                int roll = random.nextInt(100);
+                User.LoyaltyTier tier = roll < 70 ? User.LoyaltyTier.BRONZE : roll < 90 ? User.LoyaltyTier.SILVER
+                        : roll < 98 ? User.LoyaltyTier.GOLD : User.LoyaltyTier.PLATINUM;
+                User user = new User(email(spec, i), hash, firstName(i), lastName(i));
+                user.setLoyaltyTier(tier);
+                user.setTotalFlights(switch (tier) {
+                    case BRONZE -> random.nextInt(10);
+                    case SILVER -> 10 + random.nextInt(15);
+                    case GOLD -> 25 + random.nextInt(25);
+                    case PLATINUM -> 50 + random.nextInt(150);
+                });
+                user.setMemberSince(spec.asOf().minusMinutes(random.nextInt(5 * 365 * 24 * 60)));
+                tiers[i] = (byte) tier.ordinal();
+                batch.add(user);
+            }
+            int offset = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                userBatchRepository.insertUsers(batch);
+                Map<String, Long> inserted = userBatchRepository.findIdsByEmails(
+                        batch.stream().map(User::getEmail).toList());
+                for (int i = 0; i < batch.size(); i++) {
+                    ids[offset + i] = inserted.get(batch.get(i).getEmail());
+                }
+            });
+        }
+        return new Users(ids, tiers);
+    }
+
+    /**
+     * Builds the flight and decides each seat's fate, so the flight row goes in
+     * with its final availability counters.
+     */
+    private PlannedFlight planFlight(Spec spec, int index, LocalDateTime firstDeparture, SplittableRandom random) {
+        String origin = CITIES.get(random.nextInt(CITIES.size()));
+        String destination = CITIES.get(random.nextInt(CITIES.size()));
+        while (destination.equals(origin)) {
+            destination = CITIES.get(random.nextInt(CITIES.size()));
+        }
+        LocalDateTime departure = firstDeparture.plusMinutes(5L * random.nextInt(spec.days() * 288));
+        int minutes = 60 + 5 * random.nextInt(168);
+        String aircraft = AIRCRAFT.get(random.nextInt(AIRCRAFT.size()));
+        SeatLayoutTemplate layout = seatLayoutRegistry.forAircraft(aircraft);
+
+        Flight flight = new Flight(flightNumber(spec, index), AIRLINES.get(random.nextInt(AIRLINES.size())),
+                origin, destination, departure, departure.plusMinutes(minutes),
+                BigDecimal.valueOf(4900 + random.nextInt(150000), 2), layout.seatCount(), aircraft);
+        flight.setOriginCode(AirportCodes.airportCode(origin));
+        flight.setDestinationCode(AirportCodes.airportCode(destination));
+        flight.setDuration(String.format("%dh %dm", minutes / 60, minutes % 60));
+        flight.setStatus(departure.isAfter(spec.asOf()) ? Flight.FlightStatus.SCHEDULED : Flight.FlightStatus.DEPARTED);
+
+        // Departed flights sold to their load factor; later ones are still filling up
+        double daysOut = ChronoUnit.HOURS.between(spec.asOf(), departure) / 24.0;
+        double fill = spec.loadFactor() * (0.85 + 0.3 * random.nextDouble());
+        if (daysOut > 0) {
+            fill *= Math.max(0.15, 1 - daysOut / Math.max(1, spec.days() / 2));
+        }
+        boolean canBlock = departure.minusHours(48).isAfter(spec.asOf());
+
+        byte[] seats = new byte[layout.seatCount()];
+        Map<Seat.SeatType, Integer> available = new EnumMap<>(layout.seatsByCabin());
+        int seat = 0;
+        for (SeatLayoutTemplate.Cabin cabin : layout.cabins()) {
+            for (int i = 0; i < cabin.seatCount(); i++, seat++) {
+                int state = SEAT_FREE;
+                if (random.nextDouble() < fill) {
+                    state = canBlock && random.nextInt(100) < 15 ? SEAT_BLOCKED : SEAT_CONFIRMED;
+                    available.merge(cabin.type(), -1, Integer::sum);
+                }
+                if (random.nextInt(100) < 8) {
+                    state |= SEAT_CANCELLED;
+                }
+                seats[seat] = (byte) state;
+            }
+        }
+        flight.setAvailableFirstSeats(available.getOrDefault(Seat.SeatType.FIRST, 0));
+        flight.setAvailableBusinessSeats(available.getOrDefault(Seat.SeatType.BUSINESS, 0));
+        flight.setAvailableEconomySeats(available.getOrDefault(Seat.SeatType.ECONOMY, 0));
+        flight.setAvailableSeats(flight.getAvailableFirstSeats() + flight.getAvailableBusinessSeats()
+                + flight.getAvailableEconomySeats());
+        return new PlannedFlight(flight, layout, seats);
+    }
+
+    private void insertFlights(Spec spec, List<PlannedFlight> chunk, Users users, SplittableRandom random,
+                               long[] statusCounts) {
+        List<Flight> flights = chunk.stream().map(PlannedFlight::flight).toList();
+        flightBatchRepository.insertFlights(flights);
+        Map<String, Long> flightIds = flightBatchRepository.findIdsByFlightNumbers(
+                flights.stream().map(Flight::getFlightNumber).toList());
+        Map<Long, SeatLayoutTemplate> layouts = new LinkedHashMap<>();
+        for (PlannedFlight planned : chunk) {
+            layouts.put(flightIds.get(planned.flight().getFlightNumber()), planned.layout());
+        }
+        seatBatchRepository.insertSeats(layouts, seatFeatureCatalog::idFor);
+        Map<Long, List<Long>> seatIds = seatBatchRepository.findIdsByFlightIds(layouts.keySet());
+
+        List<Object[]> rows = new ArrayList<>(spec.batchSize());
+        List<Long> occupied = new ArrayList<>();
+        for (PlannedFlight planned : chunk) {
+            Flight flight = planned.flight();
+            long flightId = flightIds.get(flight.getFlightNumber());
+            List<Long> ids = seatIds.get(flightId);
+            int seat = 0;
+            for (SeatLayoutTemplate.Cabin cabin : planned.layout().cabins()) {
+                Seat priced = new Seat(cabin.firstRow(), cabin.columns().substring(0, 1), cabin.type(),
+                        cabin.upgradePrice(), flight);
+                for (int i = 0; i < cabin.seatCount(); i++, seat++) {
+                    int state = planned.seats()[seat];
+                    if ((state & SEAT_CANCELLED) != 0) {
+                        rows.add(bookingRow(spec, users, flight, flightId, priced, ids.get(seat),
+                                Booking.BookingStatus.CANCELLED, random, statusCounts));
+                    }
+                    if ((state & (SEAT_CONFIRMED | SEAT_BLOCKED)) != 0) {
+                        rows.add(bookingRow(spec, users, flight, flightId, priced, ids.get(seat),
+                                (state & SEAT_BLOCKED) != 0 ? Booking.BookingStatus.BLOCKED
+                                        : Booking.BookingStatus.CONFIRMED, random, statusCounts));
+                        occupied.add(ids.get(seat));
+                    }
+                    if (rows.size() >= spec.batchSize()) {
+                        bookingBatchRepository.insertBookings(rows);
+                        rows = new ArrayList<>(spec.batchSize());
+                    }
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            bookingBatchRepository.insertBookings(rows);
+        }
+        for (int i = 0; i < occupied.size(); i += IN_LIST_SIZE) {
+            seatBatchRepository.markOccupied(occupied.subList(i, Math.min(occupied.size(), i + IN_LIST_SIZE)));
+        }
+    }
+
+    /**
+     * One booking row, priced by {@link FareCalculator} exactly as a live booking
+     * would be. Regular customers book more: the user is drawn with a bias
+     * towards the low indexes.
+     */
+    private Object[] bookingRow(Spec spec, Users users, Flight flight, long flightId, Seat seat, long seatId,
+                                Booking.BookingStatus status, SplittableRandom random, long[] statusCounts) {
+        double draw = random.nextDouble();
+        int user = (int) (users.ids().length * draw * draw);
+        User.LoyaltyTier tier = TIERS[users.tiers()[user]];
+        int baggageWeight = random.nextInt(4) == 0 ? 0 : 10 + random.nextInt(25);
+        BigDecimal total = fareCalculator.calculateTotalAmount(flight, seat, baggageWeight, tier);
+
+        LocalDateTime bookingDate = flight.getDepartureTime().minusDays(1 + random.nextInt(120))
+                .minusMinutes(random.nextInt(24 * 60));
+        if (bookingDate.isAfter(spec.asOf())) {
+            bookingDate = spec.asOf().minusMinutes(1 + random.nextInt(7 * 24 * 60));
+        }
+
+        boolean blocking = status == Booking.BookingStatus.BLOCKED;
+        BigDecimal paid = blocking ? total.multiply(BigDecimal.valueOf(0.5)) : total;
+        LocalDateTime paymentDueDate = blocking ? flight.getDepartureTime().minusHours(48) : null;
+        statusCounts[status.ordinal()]++;
+        return new Object[] {users.ids()[user], flightId, seatId, firstName(user) + " " + lastName(user),
+                Timestamp.valueOf(bookingDate), status.name(), total, paid, total.subtract(paid), baggageWeight,
+                fareCalculator.extraBaggageWeight(baggageWeight), fareCalculator.baggageCharges(baggageWeight),
+                fareCalculator.getLoyaltyDiscount(tier),
+                paymentDueDate == null ? null : Timestamp.valueOf(paymentDueDate), blocking};
+    }
+
+    private static String email(Spec spec, int index) {
+        return spec.prefix().toLowerCase(Locale.ROOT) + (index + 1) + "@skywings.com";
+    }
+
+    private static String flightNumber(Spec spec, int index) {
+        return spec.prefix().toUpperCase(Locale.ROOT) + String.format("%07d", index + 1);
+    }
+
+    private static String firstName(int user) {
+        return FIRST_NAMES[user % FIRST_NAMES.length];
+    }
+
+    private static String lastName(int user) {
+        return LAST_NAMES[(user / FIRST_NAMES.length) % LAST_NAMES.length];
+    }
+}
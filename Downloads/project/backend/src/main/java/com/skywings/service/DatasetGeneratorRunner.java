@@ -0,0 +1,72 @@
+package com.skywings.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Generates a synthetic dataset at startup, e.g.
+ * {@code java -jar skywings.jar --skywings.datagen.enabled=true --skywings.datagen.exit=true}.
+ * With {@code exit} the application stops once the data is in.
+ */
+@Component
+@ConditionalOnProperty(name = "skywings.datagen.enabled", havingValue = "true")
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Value("${skywings.datagen.users:1000000}")
+    private int users;
+
+    @Value("${skywings.datagen.flights:200000}")
+    private int flights;
+
+    @Value("${skywings.datagen.days:365}")
+    private int days;
+
+    @Value("${skywings.datagen.load-factor:0.8}")
+    private double loadFactor;
+
+    @Value("${skywings.datagen.as-of:}")
+    private String asOf;
+
+    @Value("${skywings.datagen.seed:42}")
+    private long seed;
+
+    @Value("${skywings.datagen.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${skywings.datagen.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${skywings.datagen.prefix:dg}")
+    private String prefix;
+
+    @Value("${skywings.datagen.password:datagen123}")
+    private String password;
+
+    @Value("${skywings.datagen.exit:false}")
+    private boolean exit;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime start = asOf.isBlank() ? LocalDate.now().atStartOfDay() : LocalDate.parse(asOf).atStartOfDay();
+        datasetGenerator.generate(new DatasetGenerator.Spec(users, flights, days, loadFactor, start, seed,
+                chunkSize, batchSize, prefix, password));
+        if (exit) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.skywings.service;
+
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import com.skywings.model.User;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Booking price rules: flight fare plus seat upgrade, excess baggage, then the
+ * loyalty discount. Stateless, so it can be exercised without a Spring context.
+ */
+@Component
+public class FareCalculator {
+    public static final int FREE_BAGGAGE_KG = 23;
+    public static final int EXTRA_BAGGAGE_CHARGE_PER_KG = 15;
+
+    public BigDecimal calculateTotalAmount(Flight flight, Seat seat, int baggageWeight, User.LoyaltyTier tier) {
+        BigDecimal amount = flight.getPrice().add(seat.getUpgradePrice());
+
+        // Add baggage charges
+        if (baggageWeight > FREE_BAGGAGE_KG) {
+            amount = amount.add(baggageCharges(baggageWeight));
+        }
+
+        // Apply loyalty discount
+        int discount = getLoyaltyDiscount(tier);
+        if (discount > 0) {
+            BigDecimal discountAmount = amount.multiply(BigDecimal.valueOf(discount / 100.0));
+            amount = amount.subtract(discountAmount);
+        }
+
+        return amount;
+    }
+
+    public int extraBaggageWeight(int baggageWeight) {
+        return Math.max(0, baggageWeight - FREE_BAGGAGE_KG);
+    }
+
+    public BigDecimal baggageCharges(int baggageWeight) {
+        return BigDecimal.valueOf(extraBaggageWeight(baggageWeight) * EXTRA_BAGGAGE_CHARGE_PER_KG);
+    }
+
+    public int getLoyaltyDiscount(User.LoyaltyTier tier) {
+        switch (tier) {
+            case SILVER: return 5;
+            case GOLD: return 10;
+            case PLATINUM: return 15;
+            default: return 0;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.skywings.service;
+
+import com.skywings.model.Seat;
+import com.skywings.repository.FlightRepository;
+import com.skywings.repository.SeatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Flight.availableSeats and the per-cabin counters are maintained by +1/-1
+ * updates on the booking path. This job periodically recounts the seats of
+ * upcoming flights and repairs any drift, one page of flights per transaction.
+ * At startup it also backfills counters that are still NULL.
+ */
+@Component
+public class FlightAvailabilityReconciler implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(FlightAvailabilityReconciler.class);
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${skywings.inventory.reconcile-page-size:500}")
+    private int pageSize;
+
+    /**
+     * Fills counters left NULL on rows created before the per-cabin columns existed,
+     * departed flights included, instead of waiting for the first scheduled run.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        int repaired = repairAll(afterId -> flightRepository.findMissingAvailabilityCounters(afterId,
+                PageRequest.ofSize(pageSize)));
+        if (repaired > 0) {
+            logger.info("Backfilled available seat counters on {} flights", repaired);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${skywings.inventory.reconcile-interval-ms:300000}",
+               fixedDelayString = "${skywings.inventory.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        int repaired = repairAll(afterId -> flightRepository.findAvailabilityCounters(now, afterId,
+                PageRequest.ofSize(pageSize)));
+        if (repaired > 0) {
+            logger.warn("Repaired available seat counters on {} flights", repaired);
+        }
+    }
+
+    private int repairAll(LongFunction<List<Object[]>> nextPage) {
+        long afterId = 0L;
+        int repaired = 0;
+        while (true) {
+            List<Object[]> page = nextPage.apply(afterId);
+            if (page.isEmpty()) {
+                break;
+            }
+            Integer fixed = transactionTemplate.execute(status -> reconcilePage(page));
+            repaired += fixed == null ? 0 : fixed;
+            afterId = (Long) page.get(page.size() - 1)[0];
+        }
+        return repaired;
+    }
+
+    private int reconcilePage(List<Object[]> page) {
+        List<Long> flightIds = new ArrayList<>(page.size());
+        for (Object[] row : page) {
+            flightIds.add((Long) row[0]);
+        }
+
+        Map<Long, int[]> actual = new HashMap<>();
+        for (Object[] row : seatRepository.countAvailableSeatsByFlightIds(flightIds)) {
+            Seat.SeatType type = (Seat.SeatType) row[1];
+            if (type != null) {
+                actual.computeIfAbsent((Long) row[0], id -> new int[Seat.SeatType.values().length])[type.ordinal()] =
+                        ((Long) row[2]).intValue();
+            }
+        }
+
+        int repaired = 0;
+        for (Object[] row : page) {
+            Long flightId = (Long) row[0];
+            int[] counts = actual.getOrDefault(flightId, new int[Seat.SeatType.values().length]);
+            int first = counts[Seat.SeatType.FIRST.ordinal()];
+            int business = counts[Seat.SeatType.BUSINESS.ordinal()];
+            int economy = counts[Seat.SeatType.ECONOMY.ordinal()];
+            int available = first + business + economy;
+            if (!matches(row[1], available) || !matches(row[2], first)
+                    || !matches(row[3], business) || !matches(row[4], economy)) {
+                // Conditional on the total read, so a booking that lands in between is not overwritten
+                if (flightRepository.repairAvailableSeats(flightId, (Integer) row[1],
+                        available, first, business, economy) > 0) {
+                    logger.debug("Flight {} available seats {} -> {}", flightId, row[1], available);
+                    repaired++;
+                }
+            }
+        }
+        return repaired;
+    }
+
+    private static boolean matches(Object counter, int actual) {
+        return counter != null && (Integer) counter == actual;
+    }
+}
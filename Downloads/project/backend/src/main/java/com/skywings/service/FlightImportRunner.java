@@ -0,0 +1,48 @@
+package com.skywings.service;
+
+import com.skywings.dto.FlightImportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports a schedule file at startup, e.g.
+ * {@code java -jar skywings.jar --skywings.import.file=summer.csv}.
+ */
+@Component
+@ConditionalOnProperty(name = "skywings.import.file")
+public class FlightImportRunner implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(FlightImportRunner.class);
+
+    @Autowired
+    private FlightImportService flightImportService;
+
+    @Value("${skywings.import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        FlightImportResult result;
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            result = flightImportService.importSchedule(reader, FlightImportService.Format.fromFileName(file));
+        }
+        for (FlightImportResult.RowError error : result.errors()) {
+            logger.warn("{} line {} ({}): {}", path, error.line(), error.flightNumber(), error.message());
+        }
+        if (result.errorsTruncated()) {
+            logger.warn("{} more rows failed; raise skywings.import.max-errors to list them",
+                    result.failed() - result.errors().size());
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.skywings.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skywings.dto.FlightImportResult;
+import com.skywings.exception.InvalidRequestException;
+import com.skywings.model.AirportCodes;
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import com.skywings.model.SeatLayoutTemplate;
+import com.skywings.repository.FlightBatchRepository;
+import com.skywings.repository.SeatBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a flight schedule (CSV with a header row, or one JSON object per line)
+ * into the database. Rows are parsed and validated on the reading thread, then
+ * written in chunks by a small worker pool; each chunk is one transaction with
+ * batched flight and seat inserts. At most {@code 2 * workers} chunks are held
+ * in memory at a time, so memory stays bounded whatever the file size.
+ */
+@Service
+public class FlightImportService {
+    private static final Logger logger = LoggerFactory.getLogger(FlightImportService.class);
+    // Attempts per chunk when a concurrent chunk inserts one of its flight numbers first
+    private static final int CHUNK_ATTEMPTS = 3;
+
+    @Autowired
+    private FlightBatchRepository flightBatchRepository;
+
+    @Autowired
+    private SeatBatchRepository seatBatchRepository;
+
+    @Autowired
+    private SeatLayoutRegistry seatLayoutRegistry;
+
+    @Autowired
+    private SeatFeatureCatalog seatFeatureCatalog;
+
+    @Autowired
+    private FlightSearchCache flightSearchCache;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${skywings.import.workers:4}")
+    private int workers;
+
+    @Value("${skywings.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${skywings.import.max-errors:1000}")
+    private int maxErrors;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json") ? NDJSON : CSV;
+        }
+
+        public static Format fromFileName(String fileName) {
+            String name = fileName.toLowerCase(Locale.ROOT);
+            return name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json") ? NDJSON : CSV;
+        }
+    }
+
+    public FlightImportResult importSchedule(Reader source, Format format) {
+        long started = System.currentTimeMillis();
+        ImportRun run = new ImportRun(maxErrors);
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "flight-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(workers * 2);
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            List<String> header = null;
+            // Duplicates are caught per chunk here and across chunks by the unique flight number
+            Set<String> chunkNumbers = new HashSet<>();
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = splitCsv(line).stream().map(FlightImportService::columnKey).toList();
+                    continue;
+                }
+
+                run.rows.incrementAndGet();
+                Flight flight;
+                try {
+                    flight = toFlight(format == Format.CSV ? csvRow(header, line) : jsonRow(line));
+                } catch (IOException | RuntimeException e) {
+                    run.fail(lineNumber, null, "Unreadable row: " + e.getMessage());
+                    continue;
+                }
+                String problem = validate(flight);
+                if (problem == null && !chunkNumbers.add(flight.getFlightNumber())) {
+                    problem = "Duplicate flight number in file";
+                }
+                if (problem != null) {
+                    run.fail(lineNumber, flight.getFlightNumber(), problem);
+                    continue;
+                }
+
+                chunk.add(new ImportRow(lineNumber, flight));
+                if (chunk.size() == chunkSize) {
+                    submit(executor, inFlight, chunk, run);
+                    chunk = new ArrayList<>(chunkSize);
+                    chunkNumbers.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(executor, inFlight, chunk, run);
+            }
+        } catch (IOException e) {
+            throw new InvalidRequestException("Could not read schedule: " + e.getMessage(), e);
+        } finally {
+            executor.shutdown();
+            awaitQuietly(executor);
+            flightSearchCache.invalidateAll();
+        }
+
+        FlightImportResult result = run.result(System.currentTimeMillis() - started);
+        logger.info("Imported {} of {} flights in {} ms ({} failed)",
+                result.imported(), result.rows(), result.elapsedMillis(), result.failed());
+        return result;
+    }
+
+    private void submit(ExecutorService executor, Semaphore inFlight, List<ImportRow> chunk, ImportRun run) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+        executor.execute(() -> {
+            try {
+                writeChunk(chunk, run);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void writeChunk(List<ImportRow> chunk, ImportRun run) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<ImportRow> existing = insertChunk(chunk);
+                for (ImportRow row : existing) {
+                    run.fail(row.line(), row.flight().getFlightNumber(), "Flight number already exists");
+                }
+                run.imported.addAndGet(chunk.size() - existing.size());
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt < CHUNK_ATTEMPTS) {
+                    // Another chunk inserted one of these flight numbers after our existence check (a duplicate
+                    // key, or a deadlock while both wait on it); the retry sees it and rejects just that row
+                    logger.debug("Import chunk starting at line {} raced another chunk; retrying",
+                            chunk.get(0).line());
+                    continue;
+                }
+                failChunk(chunk, run, e);
+                return;
+            } catch (RuntimeException e) {
+                failChunk(chunk, run, e);
+                return;
+            }
+        }
+    }
+
+    private List<ImportRow> insertChunk(List<ImportRow> chunk) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Long> known = flightBatchRepository.findIdsByFlightNumbers(
+                    chunk.stream().map(r -> r.flight().getFlightNumber()).toList());
+            List<ImportRow> fresh = new ArrayList<>(chunk.size());
+            List<ImportRow> rejected = new ArrayList<>();
+            for (ImportRow row : chunk) {
+                (known.containsKey(row.flight().getFlightNumber()) ? rejected : fresh).add(row);
+            }
+            if (fresh.isEmpty()) {
+                return rejected;
+            }
+
+            List<Flight> flights = fresh.stream().map(ImportRow::flight).toList();
+            flightBatchRepository.insertFlights(flights);
+            Map<String, Long> ids = flightBatchRepository.findIdsByFlightNumbers(
+                    flights.stream().map(Flight::getFlightNumber).toList());
+            Map<Long, SeatLayoutTemplate> layouts = new LinkedHashMap<>();
+            for (Flight flight : flights) {
+                layouts.put(ids.get(flight.getFlightNumber()), seatLayoutRegistry.forAircraft(flight.getAircraft()));
+            }
+            seatBatchRepository.insertSeats(layouts, seatFeatureCatalog::idFor);
+            return rejected;
+        });
+    }
+
+    private void failChunk(List<ImportRow> chunk, ImportRun run, RuntimeException e) {
+        logger.warn("Import chunk starting at line {} failed", chunk.get(0).line(), e);
+        for (ImportRow row : chunk) {
+            run.fail(row.line(), row.flight().getFlightNumber(), "Chunk rolled back: " + e.getMessage());
+        }
+    }
+
+    private Flight toFlight(Map<String, String> row) {
+        Flight flight = new Flight();
+        flight.setFlightNumber(row.get("flightnumber"));
+        flight.setAirline(row.get("airline"));
+        flight.setOrigin(row.get("origin"));
+        flight.setDestination(row.get("destination"));
+        flight.setAircraft(row.get("aircraft"));
+        flight.setDepartureTime(parseTime(row.get("departuretime")));
+        flight.setArrivalTime(parseTime(row.get("arrivaltime")));
+        flight.setPrice(row.get("price") == null ? null : new BigDecimal(row.get("price")));
+        if (row.get("status") != null) {
+            flight.setStatus(Flight.FlightStatus.valueOf(row.get("status").toUpperCase(Locale.ROOT)));
+        }
+
+        // Seats and counters come from the aircraft's layout, as in FlightService.createFlight
+        SeatLayoutTemplate layout = seatLayoutRegistry.forAircraft(flight.getAircraft());
+        Map<Seat.SeatType, Integer> cabinSeats = layout.seatsByCabin();
+        String totalSeats = row.get("totalseats");
+        if (totalSeats != null && Integer.parseInt(totalSeats) != layout.seatCount()) {
+            throw new IllegalArgumentException("totalSeats " + totalSeats + " does not match the " +
+                    layout.seatCount() + " seats of a " + flight.getAircraft());
+        }
+        flight.setTotalSeats(layout.seatCount());
+        flight.setAvailableFirstSeats(cabinSeats.getOrDefault(Seat.SeatType.FIRST, 0));
+        flight.setAvailableBusinessSeats(cabinSeats.getOrDefault(Seat.SeatType.BUSINESS, 0));
+        flight.setAvailableEconomySeats(cabinSeats.getOrDefault(Seat.SeatType.ECONOMY, 0));
+        flight.setAvailableSeats(layout.seatCount());
+        flight.setOriginCode(AirportCodes.airportCode(flight.getOrigin()));
+        flight.setDestinationCode(AirportCodes.airportCode(flight.getDestination()));
+        return flight;
+    }
+
+    private String validate(Flight flight) {
+        Set<ConstraintViolation<Flight>> violations = validator.validate(flight);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!flight.getArrivalTime().isAfter(flight.getDepartureTime())) {
+            return "arrivalTime must be after departureTime";
+        }
+        Duration duration = Duration.between(flight.getDepartureTime(), flight.getArrivalTime());
+        flight.setDuration(String.format("%dh %dm", duration.toHours(), duration.toMinutes() % 60));
+        return null;
+    }
+
+    private Map<String, String> csvRow(List<String> header, String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("expected " + header.size() + " columns, found " + values.size());
+        }
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                row.put(header.get(i), value);
+            }
+        }
+        return row;
+    }
+
+    private Map<String, String> jsonRow(String line) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("not a JSON object");
+        }
+        Map<String, String> row = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isNull()) {
+                row.put(columnKey(field.getKey()), field.getValue().asText());
+            }
+        }
+        return row;
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+
+    // flightNumber, flight_number and "Flight Number" all map to the same column
+    private static String columnKey(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static void awaitQuietly(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.info("Waiting for flight import workers to finish");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record ImportRow(long line, Flight flight) {
+    }
+
+    private static final class ImportRun {
+        private final int maxErrors;
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicInteger recorded = new AtomicInteger();
+        private final ConcurrentLinkedQueue<FlightImportResult.RowError> errors = new ConcurrentLinkedQueue<>();
+
+        ImportRun(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long line, String flightNumber, String message) {
+            failed.incrementAndGet();
+            if (recorded.getAndIncrement() < maxErrors) {
+                errors.add(new FlightImportResult.RowError(line, flightNumber, message));
+            }
+        }
+
+        FlightImportResult result(long elapsedMillis) {
+            List<FlightImportResult.RowError> sorted = errors.stream()
+                    .sorted(Comparator.comparingLong(FlightImportResult.RowError::line))
+                    .toList();
+            return new FlightImportResult(rows.get(), imported.get(), failed.get(), sorted,
+                    failed.get() > sorted.size(), elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.skywings.service;
+
+import com.skywings.model.AirportCodes;
+import com.skywings.model.Flight;
+import com.skywings.repository.FlightRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills origin_code / destination_code for flights created before the columns
+ * existed, so they are reachable through the indexed search. Every flight it
+ * visits is marked checked, so places without a code are examined only once.
+ */
+@Component
+public class FlightRouteCodeBackfill implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(FlightRouteCodeBackfill.class);
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0L;
+        int updated = 0;
+        while (true) {
+            final long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Flight> page = flightRepository.findWithoutRouteCodes(cursor, PageRequest.ofSize(PAGE_SIZE));
+                for (Flight flight : page) {
+                    flight.setOriginCode(AirportCodes.airportCode(flight.getOrigin()));
+                    flight.setDestinationCode(AirportCodes.airportCode(flight.getDestination()));
+                    flight.setRouteCodesChecked(true);
+                }
+                return page.stream().map(Flight::getId).toList();
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            updated += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (updated > 0) {
+            logger.info("Backfilled route codes on {} flights", updated);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.skywings.service;
+
+import com.skywings.cache.BoundedCache;
+import com.skywings.cache.CacheStats;
+import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import com.skywings.model.AirportCodes;
+import com.skywings.model.Flight;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Caches search results by normalized origin, destination and departure day.
+ * Entries are dropped when a flight that would appear in them is created,
+ * changed, deleted or has its availability changed. Keys are filed under their
+ * origin codes (or destination codes, or a wildcard when neither resolves), so a
+ * flight change only tests the entries that can contain that flight.
+ */
+@Component
+public class FlightSearchCache {
+    private static final String FROM = "from:";
+    private static final String TO = "to:";
+    private static final String WILDCARD = "*";
+
+    private final ThreadPoolExecutor refreshExecutor;
+    private final BoundedCache<Key, List<FlightSummary>> cache;
+
+    public FlightSearchCache(@Value("${skywings.search.cache.max-size:10000}") int maxSize,
+                             @Value("${skywings.search.cache.ttl-ms:30000}") long ttlMs,
+                             @Value("${skywings.search.cache.stale-ms:30000}") long staleMs,
+                             @Value("${skywings.search.cache.refresh-threads:2}") int refreshThreads) {
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000), runnable -> {
+                    Thread thread = new Thread(runnable, "search-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy()); // rejected refreshes are retried by a later stale hit
+        this.cache = new BoundedCache<>(maxSize, ttlMs, staleMs, refreshExecutor, Key::tags);
+    }
+
+    public List<FlightSummary> get(FlightSearchRequest request,
+                                   Function<FlightSearchRequest, List<FlightSummary>> loader) {
+        return cache.get(Key.of(request), key -> loader.apply(key.toRequest()));
+    }
+
+    public void invalidate(Flight flight) {
+        invalidate(flight.getOrigin(), flight.getDestination(), flight.getDepartureTime());
+    }
+
+    public void invalidate(String origin, String destination, LocalDateTime departureTime) {
+        String originCode = AirportCodes.airportCode(origin);
+        String destinationCode = AirportCodes.airportCode(destination);
+        List<String> tags = new ArrayList<>(3);
+        tags.add(WILDCARD);
+        if (originCode != null) {
+            tags.add(FROM + originCode);
+        }
+        if (destinationCode != null) {
+            tags.add(TO + destinationCode);
+        }
+        AfterCommit.run(() -> cache.invalidateIf(tags,
+                key -> key.matches(origin, originCode, destination, destinationCode, departureTime)));
+    }
+
+    public void invalidateAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public record Key(String origin, String destination, LocalDate departureDay,
+                      Set<String> originCodes, Set<String> destinationCodes) {
+
+        static Key of(FlightSearchRequest request) {
+            String origin = normalize(request.getOrigin());
+            String destination = normalize(request.getDestination());
+            return new Key(origin, destination,
+                    request.getDepartureDate() == null ? null : request.getDepartureDate().toLocalDate(),
+                    AirportCodes.resolve(origin), AirportCodes.resolve(destination));
+        }
+
+        FlightSearchRequest toRequest() {
+            return new FlightSearchRequest(origin, destination,
+                    departureDay == null ? null : departureDay.atStartOfDay());
+        }
+
+        List<String> tags() {
+            if (!originCodes.isEmpty()) {
+                return originCodes.stream().map(code -> FROM + code).toList();
+            }
+            if (!destinationCodes.isEmpty()) {
+                return destinationCodes.stream().map(code -> TO + code).toList();
+            }
+            return List.of(WILDCARD);
+        }
+
+        boolean matches(String flightOrigin, String flightOriginCode, String flightDestination,
+                        String flightDestinationCode, LocalDateTime departureTime) {
+            if (departureDay != null && (departureTime == null || !departureDay.equals(departureTime.toLocalDate()))) {
+                return false;
+            }
+            return placeMatches(origin, originCodes, flightOrigin, flightOriginCode)
+                    && placeMatches(destination, destinationCodes, flightDestination, flightDestinationCode);
+        }
+
+        // Mirrors FlightSearchEngine: resolved terms match on the stored code, the rest by substring
+        private static boolean placeMatches(String term, Set<String> codes, String place, String placeCode) {
+            if (term == null) {
+                return true;
+            }
+            if (place == null) {
+                return false;
+            }
+            if (!codes.isEmpty()) {
+                return codes.contains(placeCode);
+            }
+            return place.toLowerCase(Locale.ROOT).contains(AirportCodes.searchText(term).toLowerCase(Locale.ROOT));
+        }
+
+        private static String normalize(String term) {
+            if (term == null || term.isBlank()) {
+                return null;
+            }
+            return term.trim().replaceAll("\\s+", " ");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.skywings.service;
+
+import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import com.skywings.model.AirportCodes;
+import com.skywings.repository.FlightRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves origin and destination to airport codes and answers the search from
+ * the (origin_code, destination_code, departure_time) indexes; flights stored
+ * under a place with no code are still matched by substring. Terms that are
+ * not a known code or single-airport city fall back to the substring query.
+ */
+@Component
+@Transactional(readOnly = true)
+public class FlightSearchEngine {
+    // Bounds of a MySQL DATETIME, used when no departure date is given
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    public List<FlightSummary> search(FlightSearchRequest request) {
+        boolean hasOrigin = request.getOrigin() != null && !request.getOrigin().isBlank();
+        boolean hasDestination = request.getDestination() != null && !request.getDestination().isBlank();
+        Set<String> origins = AirportCodes.resolve(request.getOrigin());
+        Set<String> destinations = AirportCodes.resolve(request.getDestination());
+
+        if ((hasOrigin && origins.isEmpty()) || (hasDestination && destinations.isEmpty())) {
+            return flightRepository.searchFlights(AirportCodes.searchText(request.getOrigin()),
+                    AirportCodes.searchText(request.getDestination()), request.getDepartureDate());
+        }
+
+        LocalDateTime from = EARLIEST;
+        LocalDateTime to = LATEST;
+        if (request.getDepartureDate() != null) {
+            from = request.getDepartureDate().toLocalDate().atStartOfDay();
+            to = from.plusDays(1);
+        }
+
+        String originText = AirportCodes.searchText(request.getOrigin());
+        String destinationText = AirportCodes.searchText(request.getDestination());
+        if (hasOrigin && hasDestination) {
+            return flightRepository.searchByRoute(origins, originText, destinations, destinationText, from, to);
+        }
+        if (hasOrigin) {
+            return flightRepository.searchByOrigin(origins, originText, from, to);
+        }
+        if (hasDestination) {
+            return flightRepository.searchByDestination(destinations, destinationText, from, to);
+        }
+        return flightRepository.searchByDeparture(from, to);
+    }
+}
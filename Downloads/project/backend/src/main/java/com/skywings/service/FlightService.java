@@ -1,21 +1,34 @@
 package com.skywings.service;
 
+import com.skywings.cache.CacheStats;
+import com.skywings.dto.CursorPage;
 import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import com.skywings.dto.PageCursor;
+import com.skywings.dto.SeatAvailability;
+import com.skywings.dto.SeatView;
 import com.skywings.model.Flight;
 import com.skywings.model.Seat;
+import com.skywings.model.SeatLayoutTemplate;
 import com.skywings.repository.FlightRepository;
 import com.skywings.repository.SeatRepository;
 import com.skywings.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
 public class FlightService {
+    private static final Logger logger = LoggerFactory.getLogger(FlightService.class);
     
     @Autowired
     private FlightRepository flightRepository;
@@ -25,9 +38,39 @@ public class FlightService {
     
     @Autowired
     private SeatService seatService;
+    
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+    
+    @Autowired
+    private FlightSearchEngine flightSearchEngine;
+    
+    @Autowired
+    private FlightSearchCache flightSearchCache;
+    
+    @Autowired
+    private SeatMapService seatMapService;
+    
+    @Autowired
+    private SeatFeatureCatalog seatFeatureCatalog;
+    
+    @Autowired
+    private SeatLayoutRegistry seatLayoutRegistry;
 
-    public List<Flight> getAllFlights() {
-        return flightRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<FlightSummary> getFlights(String cursor, Integer size) {
+        int limit = CursorPage.clampSize(size);
+        PageCursor after = PageCursor.decode(cursor);
+        List<FlightSummary> rows = after == null
+                ? flightRepository.findFirstPage(PageRequest.ofSize(limit + 1))
+                : flightRepository.findPageAfter(after.timestamp(), after.id(), PageRequest.ofSize(limit + 1));
+        return CursorPage.of(rows, limit, f -> new PageCursor(f.departureTime(), f.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public FlightSummary getFlightSummary(Long id) {
+        return flightRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
     }
 
     public Flight getFlightById(Long id) {
@@ -35,12 +78,10 @@ public class FlightService {
                 .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
     }
 
-    public List<Flight> searchFlights(FlightSearchRequest searchRequest) {
-        return flightRepository.searchFlights(
-                searchRequest.getOrigin(),
-                searchRequest.getDestination(),
-                searchRequest.getDepartureDate()
-        );
+    // Served from the cache without opening a transaction; misses go through the engine's own
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FlightSummary> searchFlights(FlightSearchRequest searchRequest) {
+        return flightSearchCache.get(searchRequest, flightSearchEngine::search);
     }
 
     public Flight createFlight(Flight flight) {
@@ -50,18 +91,28 @@ public class FlightService {
         long minutes = duration.toMinutes() % 60;
         flight.setDuration(String.format("%dh %dm", hours, minutes));
         
-        flight.setAvailableSeats(flight.getTotalSeats());
+        // The counters are insert-only, so they are set from the seat layout before the first save;
+        // the layout also decides the capacity, whatever totalSeats the request carried
+        SeatLayoutTemplate layout = seatLayoutRegistry.forAircraft(flight.getAircraft());
+        Map<Seat.SeatType, Integer> cabinSeats = layout.seatsByCabin();
+        flight.setTotalSeats(layout.seatCount());
+        flight.setAvailableFirstSeats(cabinSeats.getOrDefault(Seat.SeatType.FIRST, 0));
+        flight.setAvailableBusinessSeats(cabinSeats.getOrDefault(Seat.SeatType.BUSINESS, 0));
+        flight.setAvailableEconomySeats(cabinSeats.getOrDefault(Seat.SeatType.ECONOMY, 0));
+        flight.setAvailableSeats(layout.seatCount());
         
         Flight savedFlight = flightRepository.save(flight);
         
         // Generate seats for the flight
-        seatService.generateSeatsForFlight(savedFlight);
+        seatService.generateSeatsForFlight(savedFlight, layout);
         
+        flightSearchCache.invalidate(savedFlight);
         return savedFlight;
     }
 
     public Flight updateFlight(Long id, Flight flightDetails) {
         Flight flight = getFlightById(id);
+        flightSearchCache.invalidate(flight);
         
         flight.setFlightNumber(flightDetails.getFlightNumber());
         flight.setAirline(flightDetails.getAirline());
@@ -79,23 +130,59 @@ public class FlightService {
         long minutes = duration.toMinutes() % 60;
         flight.setDuration(String.format("%dh %dm", hours, minutes));
         
+        seatInventoryService.evict(id);
+        flightSearchCache.invalidate(flight);
         return flightRepository.save(flight);
     }
 
     public void deleteFlight(Long id) {
         Flight flight = getFlightById(id);
         flightRepository.delete(flight);
+        seatInventoryService.evict(id);
+        seatMapService.evict(id);
+        flightSearchCache.invalidate(flight);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SeatView> getFlightSeats(Long flightId) {
+        getFlightById(flightId);
+        return seatRepository.findSeatStatesByFlightId(flightId).stream()
+                .map(s -> SeatView.from(s, seatFeatureCatalog.featuresOf(s.featureSetId())))
+                .toList();
+    }
+
+    // Answered from the seat bitmap; only an empty inventory asks the database whether the flight exists
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatAvailability getSeatAvailability(Long flightId) {
+        SeatInventory inventory = seatInventoryService.getInventory(flightId);
+        if (inventory.capacity() == 0 && !flightRepository.existsById(flightId)) {
+            seatInventoryService.evict(flightId);
+            throw new ResourceNotFoundException("Flight not found with id: " + flightId);
+        }
+        return seatInventoryService.getAvailability(inventory);
+    }
+
+    public void seatBooked(Flight flight, Seat.SeatType type) {
+        if (adjustAvailableSeats(flight.getId(), type, -1) == 0) {
+            logger.warn("Available seat counter for flight {} already at zero; leaving it to the reconciler",
+                    flight.getId());
+        }
+        flightSearchCache.invalidate(flight);
+    }
+
+    public void seatReleased(Flight flight, Seat.SeatType type) {
+        adjustAvailableSeats(flight.getId(), type, 1);
+        flightSearchCache.invalidate(flight);
     }
 
-    public List<Seat> getFlightSeats(Long flightId) {
-        Flight flight = getFlightById(flightId);
-        return seatRepository.findByFlightOrderBySeatRowAscSeatColumnAsc(flight);
+    public CacheStats getSearchCacheStats() {
+        return flightSearchCache.stats();
     }
 
-    public void updateAvailableSeats(Long flightId) {
-        Flight flight = getFlightById(flightId);
-        Integer availableSeats = seatRepository.countAvailableSeatsByFlight(flight);
-        flight.setAvailableSeats(availableSeats);
-        flightRepository.save(flight);
+    private int adjustAvailableSeats(Long flightId, Seat.SeatType type, int delta) {
+        return flightRepository.adjustAvailableSeats(flightId, delta,
+                type == Seat.SeatType.FIRST ? delta : 0,
+                type == Seat.SeatType.BUSINESS ? delta : 0,
+                type == Seat.SeatType.ECONOMY ? delta : 0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.skywings.service;
+
+import com.skywings.model.SeatFeatureSet;
+import com.skywings.repository.SeatFeatureSetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared seat feature sets. Seats reference a set by id instead of storing their
+ * own feature rows; the handful of distinct sets is held in memory.
+ */
+@Component
+public class SeatFeatureCatalog implements ApplicationRunner {
+
+    @Autowired
+    private SeatFeatureSetRepository seatFeatureSetRepository;
+
+    private final TransactionTemplate newTransaction;
+
+    private final ConcurrentMap<Long, List<String>> featuresById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> idsByFeatures = new ConcurrentHashMap<>();
+
+    public SeatFeatureCatalog(PlatformTransactionManager transactionManager) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Id of the shared set holding exactly these features, creating it if needed;
+     * {@code null} for no features. Creation commits on its own so a rolled-back
+     * caller never leaves a cached id without a row.
+     */
+    public Long idFor(List<String> features) {
+        if (features == null || features.isEmpty()) {
+            return null;
+        }
+        String key = SeatFeatureSet.join(features);
+        Long id = idsByFeatures.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        SeatFeatureSet set;
+        try {
+            set = newTransaction.execute(status -> seatFeatureSetRepository.findByFeatures(key)
+                    .orElseGet(() -> seatFeatureSetRepository.saveAndFlush(new SeatFeatureSet(features))));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created it first
+            set = newTransaction.execute(status -> seatFeatureSetRepository.findByFeatures(key).orElseThrow());
+        }
+        remember(set);
+        return set.getId();
+    }
+
+    public List<String> featuresOf(Long featureSetId) {
+        if (featureSetId == null) {
+            return List.of();
+        }
+        List<String> features = featuresById.get(featureSetId);
+        if (features == null) {
+            features = seatFeatureSetRepository.findById(featureSetId)
+                    .map(this::remember)
+                    .orElse(List.of());
+        }
+        return features;
+    }
+
+    // Legacy per-seat features are moved over once by SeatFeatureMigration
+    @Override
+    public void run(ApplicationArguments args) {
+        seatFeatureSetRepository.findAll().forEach(this::remember);
+    }
+
+    private List<String> remember(SeatFeatureSet set) {
+        List<String> features = set.getFeatureList();
+        featuresById.put(set.getId(), features);
+        idsByFeatures.put(set.getFeatures(), set.getId());
+        return features;
+    }
+}
@@ -0,0 +1,94 @@
+package com.skywings.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One-off move of the legacy per-seat {@code seat_features} rows onto shared
+ * feature sets. Each seat gets the set matching its own stored features; once
+ * every seat is done the table is renamed to {@code seat_features_migrated}, so
+ * later startups find nothing to do.
+ */
+@Component
+public class SeatFeatureMigration implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(SeatFeatureMigration.class);
+    private static final String LEGACY_TABLE = "seat_features";
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private SeatFeatureCatalog seatFeatureCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!legacyTableExists()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long afterId = 0L;
+        int migrated = 0;
+        while (true) {
+            List<Long> seatIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT seat_id FROM seat_features WHERE seat_id > ? ORDER BY seat_id LIMIT ?",
+                    Long.class, afterId, PAGE_SIZE);
+            if (seatIds.isEmpty()) {
+                break;
+            }
+            long from = afterId;
+            long to = seatIds.get(seatIds.size() - 1);
+            Map<Long, List<String>> features = new LinkedHashMap<>();
+            jdbcTemplate.query("SELECT seat_id, feature FROM seat_features WHERE seat_id > ? AND seat_id <= ?",
+                    (RowCallbackHandler) rs ->
+                            features.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2)),
+                    from, to);
+
+            List<Object[]> updates = new ArrayList<>(features.size());
+            features.forEach((seatId, list) -> updates.add(new Object[] {seatFeatureCatalog.idFor(list), seatId}));
+            // Seats that already have a set (re-run after a partial migration) are left alone
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE seats SET feature_set_id = ? WHERE id = ? AND feature_set_id IS NULL", updates));
+            migrated += seatIds.size();
+            afterId = to;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE seat_features RENAME TO seat_features_migrated");
+        logger.info("Moved features of {} seats onto shared feature sets in {} ms; kept the old rows as " +
+                "seat_features_migrated", migrated, System.currentTimeMillis() - started);
+    }
+
+    private boolean legacyTableExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : List.of(LEGACY_TABLE, LEGACY_TABLE.toUpperCase(Locale.ROOT))) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name,
+                        new String[] {"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
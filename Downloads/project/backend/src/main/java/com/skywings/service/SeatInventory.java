@@ -0,0 +1,258 @@
+package com.skywings.service;
+
+import com.skywings.dto.SeatState;
+import com.skywings.model.Seat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Occupancy of one flight's seats held as primitive bitsets. Seats are numbered
+ * by their position in the seat map (row, then column); bit {@code i} of
+ * {@code occupied} is set when that seat is not AVAILABLE. Each cabin has an
+ * immutable mask selecting its seats, so per-cabin counts are a popcount.
+ */
+public class SeatInventory {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Long flightId;
+    private final long builtAt;
+    private final long[] seatIds;
+    private final int[] rows;
+    private final String[] columns;
+    private final Seat.SeatType[] types;
+    private final Map<Seat.SeatType, BigDecimal> upgradePrices;
+    private final Map<Seat.SeatType, Long> featureSetIds;
+    private final long[] sortedIds;
+    private final int[] sortedSlots;
+    private final Map<Seat.SeatType, long[]> cabinMasks;
+    private final AtomicLongArray occupied;
+    private final AtomicLong version = new AtomicLong();
+    private final long layoutHash;
+
+    private SeatInventory(Long flightId, long[] seatIds, int[] rows, String[] columns, Seat.SeatType[] types,
+                          Map<Seat.SeatType, BigDecimal> upgradePrices, Map<Seat.SeatType, Long> featureSetIds,
+                          Map<Seat.SeatType, long[]> cabinMasks,
+                          long[] occupied) {
+        this.flightId = flightId;
+        this.builtAt = System.currentTimeMillis();
+        this.seatIds = seatIds;
+        this.rows = rows;
+        this.columns = columns;
+        this.types = types;
+        this.upgradePrices = upgradePrices;
+        this.featureSetIds = featureSetIds;
+        this.cabinMasks = cabinMasks;
+        this.occupied = new AtomicLongArray(occupied);
+
+        this.sortedIds = seatIds.clone();
+        this.sortedSlots = new int[seatIds.length];
+        Integer[] order = new Integer[seatIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(seatIds[a], seatIds[b]));
+        for (int i = 0; i < order.length; i++) {
+            sortedIds[i] = seatIds[order[i]];
+            sortedSlots[i] = order[i];
+        }
+
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < seatIds.length; i++) {
+            hash = mix(hash, seatIds[i]);
+            hash = mix(hash, ((long) rows[i] << 32) | (Objects.hash(columns[i], types[i]) & 0xffffffffL));
+        }
+        this.layoutHash = hash;
+    }
+
+    public static SeatInventory build(Long flightId, List<SeatState> seats) {
+        int words = (seats.size() + 63) >>> 6;
+        long[] seatIds = new long[seats.size()];
+        int[] rows = new int[seats.size()];
+        String[] columns = new String[seats.size()];
+        Seat.SeatType[] types = new Seat.SeatType[seats.size()];
+        Map<Seat.SeatType, BigDecimal> upgradePrices = new EnumMap<>(Seat.SeatType.class);
+        Map<Seat.SeatType, Long> featureSetIds = new EnumMap<>(Seat.SeatType.class);
+        long[] occupied = new long[words];
+        Map<Seat.SeatType, long[]> cabinMasks = new EnumMap<>(Seat.SeatType.class);
+        for (Seat.SeatType type : Seat.SeatType.values()) {
+            cabinMasks.put(type, new long[words]);
+        }
+
+        for (int slot = 0; slot < seats.size(); slot++) {
+            SeatState seat = seats.get(slot);
+            seatIds[slot] = seat.id();
+            rows[slot] = seat.seatRow();
+            columns[slot] = seat.seatColumn();
+            types[slot] = seat.type();
+            if (seat.type() != null) {
+                cabinMasks.get(seat.type())[slot >>> 6] |= 1L << slot;
+                upgradePrices.putIfAbsent(seat.type(), seat.upgradePrice());
+                if (seat.featureSetId() != null) {
+                    featureSetIds.putIfAbsent(seat.type(), seat.featureSetId());
+                }
+            }
+            if (seat.status() != Seat.SeatStatus.AVAILABLE) {
+                occupied[slot >>> 6] |= 1L << slot;
+            }
+        }
+        return new SeatInventory(flightId, seatIds, rows, columns, types, upgradePrices, featureSetIds,
+                cabinMasks, occupied);
+    }
+
+    public Long getFlightId() { return flightId; }
+
+    public long getBuiltAt() { return builtAt; }
+
+    public long getVersion() { return version.get(); }
+
+    /**
+     * Seat-map ETag for the given {@link #occupancySnapshot()}: a hash of the layout and the
+     * occupancy bits, so it changes only when a seat does and survives inventory rebuilds.
+     */
+    public String tagOf(long[] occupancyWords) {
+        long hash = layoutHash;
+        for (long word : occupancyWords) {
+            hash = mix(hash, word);
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    public int capacity() { return seatIds.length; }
+
+    public long seatIdAt(int slot) { return seatIds[slot]; }
+
+    public long[] getSeatIds() { return seatIds.clone(); }
+
+    public int[] getRows() { return rows.clone(); }
+
+    public String[] getColumns() { return columns.clone(); }
+
+    public Seat.SeatType[] getTypes() { return types.clone(); }
+
+    public Map<Seat.SeatType, BigDecimal> getUpgradePrices() { return upgradePrices; }
+
+    public Long getFeatureSetId(Seat.SeatType type) { return featureSetIds.get(type); }
+
+    public int slotOf(long seatId) {
+        int index = Arrays.binarySearch(sortedIds, seatId);
+        return index < 0 ? -1 : sortedSlots[index];
+    }
+
+    public boolean isAvailable(long seatId) {
+        int slot = slotOf(seatId);
+        return slot >= 0 && (occupied.get(slot >>> 6) & (1L << slot)) == 0;
+    }
+
+    public boolean markOccupied(long seatId) {
+        return update(slotOf(seatId), true);
+    }
+
+    public boolean markAvailable(long seatId) {
+        return update(slotOf(seatId), false);
+    }
+
+    public int availableCount() {
+        int occupiedCount = 0;
+        for (int i = 0; i < occupied.length(); i++) {
+            occupiedCount += Long.bitCount(occupied.get(i));
+        }
+        return seatIds.length - occupiedCount;
+    }
+
+    public int availableCount(Seat.SeatType type) {
+        long[] mask = cabinMasks.get(type);
+        int count = 0;
+        for (int i = 0; i < mask.length; i++) {
+            count += Long.bitCount(mask[i] & ~occupied.get(i));
+        }
+        return count;
+    }
+
+    public Map<Seat.SeatType, Integer> availableByCabin() {
+        Map<Seat.SeatType, Integer> counts = new EnumMap<>(Seat.SeatType.class);
+        for (Seat.SeatType type : Seat.SeatType.values()) {
+            counts.put(type, availableCount(type));
+        }
+        return counts;
+    }
+
+    public long[] availableSeatIds() {
+        long[] ids = new long[seatIds.length];
+        int n = 0;
+        for (int i = 0; i < occupied.length(); i++) {
+            long free = ~occupied.get(i);
+            while (free != 0) {
+                int slot = (i << 6) + Long.numberOfTrailingZeros(free);
+                if (slot >= seatIds.length) {
+                    break;
+                }
+                ids[n++] = seatIds[slot];
+                free &= free - 1;
+            }
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    /**
+     * The AVAILABLE seats in seat-map order, rebuilt from the bitmap without touching the database.
+     */
+    public List<SeatState> availableSeatStates() {
+        List<SeatState> seats = new ArrayList<>();
+        for (int i = 0; i < occupied.length(); i++) {
+            long free = ~occupied.get(i);
+            while (free != 0) {
+                int slot = (i << 6) + Long.numberOfTrailingZeros(free);
+                if (slot >= seatIds.length) {
+                    break;
+                }
+                seats.add(new SeatState(seatIds[slot], rows[slot], columns[slot], types[slot],
+                        upgradePrices.get(types[slot]), Seat.SeatStatus.AVAILABLE, featureSetIds.get(types[slot])));
+                free &= free - 1;
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Copy of the occupancy words; bit {@code i} covers seat-map position {@code i}.
+     */
+    public long[] occupancySnapshot() {
+        long[] words = new long[occupied.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = occupied.get(i);
+        }
+        return words;
+    }
+
+    private boolean update(int slot, boolean occupy) {
+        if (slot < 0) {
+            return false;
+        }
+        int word = slot >>> 6;
+        long bit = 1L << slot;
+        while (true) {
+            long current = occupied.get(word);
+            long next = occupy ? current | bit : current & ~bit;
+            if (current == next) {
+                return false;
+            }
+            if (occupied.compareAndSet(word, current, next)) {
+                version.incrementAndGet();
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.skywings.service;
+
+import com.skywings.dto.SeatAvailability;
+import com.skywings.repository.SeatRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory seat inventory keyed by flight id. {@link SeatRepository} stays the
+ * source of truth: an inventory is built from it on first use, kept current by
+ * the booking and cancellation paths, and rebuilt once it is older than
+ * {@code skywings.inventory.max-age-ms} so changes made by other nodes converge.
+ */
+@Service
+public class SeatInventoryService {
+    private static final int STRIPES = 1024;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Value("${skywings.inventory.max-age-ms:300000}")
+    private long maxAgeMs;
+
+    @Value("${skywings.inventory.max-flights:10000}")
+    private int maxFlights;
+
+    private final ConcurrentMap<Long, SeatInventory> inventories = new ConcurrentHashMap<>();
+
+    // Bumped on every change so a rebuild racing with a booking is not cached
+    private final AtomicLongArray mutations = new AtomicLongArray(STRIPES);
+
+    public SeatInventory getInventory(Long flightId) {
+        SeatInventory inventory = inventories.get(flightId);
+        if (inventory != null && System.currentTimeMillis() - inventory.getBuiltAt() < maxAgeMs) {
+            return inventory;
+        }
+
+        int stripe = stripe(flightId);
+        long stamp = mutations.get(stripe);
+        SeatInventory loaded = SeatInventory.build(flightId, seatRepository.findSeatStatesByFlightId(flightId));
+        if (mutations.get(stripe) == stamp) {
+            if (inventories.size() >= maxFlights) {
+                Iterator<Long> it = inventories.keySet().iterator();
+                if (it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+            inventories.put(flightId, loaded);
+        }
+        return loaded;
+    }
+
+    public SeatAvailability getAvailability(Long flightId) {
+        return getAvailability(getInventory(flightId));
+    }
+
+    public SeatAvailability getAvailability(SeatInventory inventory) {
+        return new SeatAvailability(inventory.getFlightId(), inventory.availableCount(), inventory.availableByCabin(),
+                inventory.availableSeatIds());
+    }
+
+    public void seatOccupied(Long flightId, Long seatId) {
+        AfterCommit.run(() -> apply(flightId, seatId, true));
+    }
+
+    public void seatReleased(Long flightId, Long seatId) {
+        AfterCommit.run(() -> apply(flightId, seatId, false));
+    }
+
+    public void evict(Long flightId) {
+        mutations.incrementAndGet(stripe(flightId));
+        inventories.remove(flightId);
+    }
+
+    private void apply(Long flightId, Long seatId, boolean occupied) {
+        mutations.incrementAndGet(stripe(flightId));
+        SeatInventory inventory = inventories.get(flightId);
+        if (inventory == null) {
+            return;
+        }
+        if (inventory.slotOf(seatId) < 0) {
+            // Seat unknown to this snapshot; let the next read rebuild it
+            inventories.remove(flightId, inventory);
+            return;
+        }
+        if (occupied) {
+            inventory.markOccupied(seatId);
+        } else {
+            inventory.markAvailable(seatId);
+        }
+    }
+
+    private static int stripe(Long flightId) {
+        return (Long.hashCode(flightId) & 0x7fffffff) % STRIPES;
+    }
+}
@@ -0,0 +1,62 @@
+package com.skywings.service;
+
+import com.skywings.model.Seat;
+import com.skywings.model.SeatLayoutTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Seat layout templates keyed by aircraft model, matched against
+ * {@code Flight.aircraft} ignoring case, spaces and punctuation.
+ */
+@Component
+public class SeatLayoutRegistry {
+    private static final List<String> FIRST_FEATURES =
+            List.of("Extra legroom", "Priority boarding", "Complimentary meal");
+    private static final List<String> BUSINESS_FEATURES = List.of("Extra legroom", "Priority boarding");
+
+    public static final SeatLayoutTemplate DEFAULT = new SeatLayoutTemplate("default", List.of(
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.FIRST, 1, 3, "ABCD", BigDecimal.valueOf(150), FIRST_FEATURES),
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.BUSINESS, 4, 8, "ABCD", BigDecimal.valueOf(75), BUSINESS_FEATURES),
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.ECONOMY, 9, 30, "ABCDEF", BigDecimal.ZERO, List.of())));
+
+    private static final SeatLayoutTemplate NARROW_BODY = new SeatLayoutTemplate("narrow-body", List.of(
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.BUSINESS, 1, 4, "ABCD", BigDecimal.valueOf(75), BUSINESS_FEATURES),
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.ECONOMY, 5, 31, "ABCDEF", BigDecimal.ZERO, List.of())));
+
+    private static final SeatLayoutTemplate WIDE_BODY = new SeatLayoutTemplate("wide-body", List.of(
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.FIRST, 1, 2, "ADGK", BigDecimal.valueOf(150), FIRST_FEATURES),
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.BUSINESS, 3, 9, "ACDGHK", BigDecimal.valueOf(75), BUSINESS_FEATURES),
+            new SeatLayoutTemplate.Cabin(Seat.SeatType.ECONOMY, 10, 42, "ABCDEFGHJK", BigDecimal.ZERO, List.of())));
+
+    // Checked in order; the first key contained in the normalized aircraft name wins
+    private final Map<String, SeatLayoutTemplate> templates = new LinkedHashMap<>();
+
+    public SeatLayoutRegistry() {
+        templates.put("a320", NARROW_BODY);
+        templates.put("a321", NARROW_BODY);
+        templates.put("737", NARROW_BODY);
+        templates.put("777", WIDE_BODY);
+        templates.put("787", WIDE_BODY);
+        templates.put("a350", WIDE_BODY);
+        templates.put("a330", WIDE_BODY);
+    }
+
+    public SeatLayoutTemplate forAircraft(String aircraft) {
+        if (aircraft == null) {
+            return DEFAULT;
+        }
+        String key = aircraft.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        for (Map.Entry<String, SeatLayoutTemplate> entry : templates.entrySet()) {
+            if (key.contains(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return DEFAULT;
+    }
+}
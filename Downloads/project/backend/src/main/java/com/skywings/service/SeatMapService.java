@@ -0,0 +1,74 @@
+package com.skywings.service;
+
+import com.skywings.cache.BoundedCache;
+import com.skywings.dto.SeatMapLayout;
+import com.skywings.dto.SeatMapOccupancy;
+import com.skywings.exception.ResourceNotFoundException;
+import com.skywings.model.Seat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+public class SeatMapService {
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatFeatureCatalog seatFeatureCatalog;
+
+    private final BoundedCache<Long, SeatMapLayout> layouts = new BoundedCache<>(10000, 3600000L);
+
+    // Both views are built from the in-memory inventory; only a cold inventory touches the database
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatMapLayout getLayout(Long flightId) {
+        return layouts.get(flightId, this::buildLayout);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatMapOccupancy getOccupancy(Long flightId) {
+        SeatInventory inventory = inventoryOf(flightId);
+        long[] words = inventory.occupancySnapshot();
+        String tag = inventory.tagOf(words);
+        byte[] bytes = new byte[(inventory.capacity() + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return new SeatMapOccupancy(flightId, tag, inventory.capacity(),
+                Base64.getEncoder().encodeToString(bytes), inventory.availableCount(), inventory.availableByCabin());
+    }
+
+    public void evict(Long flightId) {
+        layouts.invalidate(flightId);
+    }
+
+    private SeatInventory inventoryOf(Long flightId) {
+        SeatInventory inventory = seatInventoryService.getInventory(flightId);
+        if (inventory.capacity() == 0) {
+            throw new ResourceNotFoundException("No seat map for flight with id: " + flightId);
+        }
+        return inventory;
+    }
+
+    private SeatMapLayout buildLayout(Long flightId) {
+        SeatInventory inventory = inventoryOf(flightId);
+        Seat.SeatType[] types = inventory.getTypes();
+        StringBuilder cabins = new StringBuilder(types.length);
+        for (Seat.SeatType type : types) {
+            cabins.append(type == null ? '-' : type.name().charAt(0));
+        }
+
+        Map<Seat.SeatType, SeatMapLayout.Cabin> cabinDetails = new EnumMap<>(Seat.SeatType.class);
+        inventory.getUpgradePrices().forEach((type, price) -> cabinDetails.put(type,
+                new SeatMapLayout.Cabin(price, seatFeatureCatalog.featuresOf(inventory.getFeatureSetId(type)))));
+
+        return new SeatMapLayout(flightId, inventory.getSeatIds(), inventory.getRows(), inventory.getColumns(),
+                cabins.toString(), cabinDetails);
+    }
+}
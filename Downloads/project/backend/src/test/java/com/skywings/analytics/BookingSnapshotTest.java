@@ -0,0 +1,45 @@
+package com.skywings.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingSnapshotTest {
+
+    @Test
+    void amountsBeyondIntCentsAreKept() {
+        BookingSnapshot.Builder builder = BookingSnapshot.builder(2);
+        long large = Integer.MAX_VALUE + 100L;
+        builder.add(row("GOLD"), new long[] {large, large, 0, 0, 0});
+        builder.add(row("GOLD"), new long[] {large, 0, large, 0, 0});
+        BookingSnapshot snapshot = builder.build();
+
+        SnapshotQuery.Result result = SnapshotQuery.run(snapshot, Map.of(), List.of(BookingSnapshot.Dimension.TIER),
+                List.of(BookingSnapshot.Measure.TOTAL_AMOUNT), ForkJoinPool.commonPool());
+
+        assertThat(result.groups()).singleElement()
+                .satisfies(group -> assertThat(group.sums()[0]).isEqualTo(2 * large));
+    }
+
+    @Test
+    void columnsGrowPastTheEstimateAndAreTrimmedToSize() {
+        BookingSnapshot.Builder builder = BookingSnapshot.builder(4);
+        for (int i = 0; i < 10; i++) {
+            builder.add(row(i % 2 == 0 ? "BRONZE" : "SILVER"), new long[] {i, 0, 0, 0, 0});
+        }
+        BookingSnapshot snapshot = builder.build();
+
+        assertThat(snapshot.size()).isEqualTo(10);
+        assertThat(snapshot.cents(BookingSnapshot.Measure.TOTAL_AMOUNT)).hasSize(10).endsWith(9L);
+        assertThat(snapshot.codes(BookingSnapshot.Dimension.TIER)).hasSize(10);
+        assertThat(snapshot.cardinality(BookingSnapshot.Dimension.TIER)).isEqualTo(2);
+    }
+
+    private static String[] row(String tier) {
+        return new String[] {"SkyWings", "JFK-LHR", "ECONOMY", tier, "CONFIRMED", "2026-01", "2026-02"};
+    }
+}
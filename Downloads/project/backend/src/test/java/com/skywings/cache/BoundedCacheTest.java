@@ -0,0 +1,133 @@
+package com.skywings.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    void invalidatingAnotherKeyKeepsAnInFlightLoad() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(100, 60000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> cache.get("a", key -> {
+            loading.countDown();
+            await(release);
+            return "A";
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        cache.invalidate("b");
+        cache.invalidateIf(key -> key.equals("c"));
+        release.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(cache.getIfPresent("a")).isEqualTo("A");
+    }
+
+    @Test
+    void invalidatingTheLoadingKeyDropsItsResult() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(100, 60000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> cache.get("a", key -> {
+            loading.countDown();
+            await(release);
+            return "stale";
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        cache.invalidate("a");
+        release.countDown();
+
+        // Returned to its caller, but not cached
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.get("a", key -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void taggedInvalidationOnlyTestsKeysUnderThoseTags() {
+        AtomicInteger tested = new AtomicInteger();
+        BoundedCache<String, String> cache = new BoundedCache<>(100, 60000, 0, null,
+                key -> List.of(key.substring(0, 1)));
+        for (String key : List.of("a1", "a2", "b1", "b2", "c1")) {
+            cache.put(key, key);
+        }
+
+        cache.invalidateIf(List.of("a"), key -> {
+            tested.incrementAndGet();
+            return key.endsWith("1");
+        });
+
+        assertThat(tested.get()).isEqualTo(2);
+        assertThat(cache.getIfPresent("a1")).isNull();
+        assertThat(cache.getIfPresent("a2")).isEqualTo("a2");
+        assertThat(cache.getIfPresent("b1")).isEqualTo("b1");
+    }
+
+    @Test
+    void evictedKeysLeaveTheIndex() {
+        AtomicInteger tested = new AtomicInteger();
+        BoundedCache<String, String> cache = new BoundedCache<>(2, 60000, 0, null, key -> List.of("all"));
+        cache.put("a", "a");
+        cache.put("b", "b");
+        cache.put("c", "c");
+
+        cache.invalidateIf(List.of("all"), key -> {
+            tested.incrementAndGet();
+            return true;
+        });
+
+        assertThat(tested.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void aRejectedRefreshIsRetriedByALaterStaleHit() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        try {
+            BoundedCache<String, String> cache = new BoundedCache<>(100, 10, 60000, executor);
+            cache.put("a", "old");
+            Thread.sleep(20);
+
+            // Saturated: the refresh is rejected and the stale value served
+            executor.execute(() -> await(busy));
+            assertThat(cache.get("a", key -> "lost")).isEqualTo("old");
+
+            busy.countDown();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (refreshed.getCount() > 0 && System.currentTimeMillis() < deadline) {
+                assertThat(cache.get("a", key -> {
+                    refreshed.countDown();
+                    return "new";
+                })).isIn("old", "new");
+                refreshed.await(10, TimeUnit.MILLISECONDS);
+            }
+            assertThat(refreshed.getCount()).isZero();
+        } finally {
+            busy.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
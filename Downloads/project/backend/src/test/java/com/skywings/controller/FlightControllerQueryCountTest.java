@@ -0,0 +1,107 @@
+package com.skywings.controller;
+
+import com.skywings.model.Flight;
+import com.skywings.service.FlightService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each public flight endpoint prepares, so a lazy
+ * association creeping back into a response shows up as a failing count.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FlightControllerQueryCountTest {
+    private static final AtomicInteger FLIGHTS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        int n = FLIGHTS.incrementAndGet();
+        // A departure day of its own, so searches for it never hit the search cache
+        LocalDateTime departure = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).plusDays(200 + n).plusHours(9);
+        Flight template = new Flight();
+        template.setFlightNumber("SQL" + n);
+        template.setAirline("SkyWings");
+        template.setOrigin("Boston (BOS)");
+        template.setDestination("Miami (MIA)");
+        template.setDepartureTime(departure);
+        template.setArrivalTime(departure.plusHours(3));
+        template.setPrice(BigDecimal.valueOf(199));
+        template.setTotalSeats(150);
+        template.setAircraft("Airbus A320");
+        flight = flightService.createFlight(template);
+    }
+
+    @Test
+    void listIsOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/flights").param("size", "20"))).isEqualTo(1);
+    }
+
+    @Test
+    void detailIsOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/flights/" + flight.getId()))).isEqualTo(1);
+    }
+
+    @Test
+    void searchIsOneStatement() throws Exception {
+        String body = String.format("{\"origin\":\"Boston\",\"destination\":\"Miami\",\"departureDate\":\"%s\"}",
+                flight.getDepartureTime().truncatedTo(ChronoUnit.DAYS));
+        RequestBuilder search = post("/api/flights/search").contentType(MediaType.APPLICATION_JSON).content(body);
+
+        assertThat(statementsFor(search)).isEqualTo(1);
+        // Cached until a flight on the route changes
+        assertThat(statementsFor(search)).isZero();
+    }
+
+    @Test
+    void seatAvailabilityIsServedFromTheSeatInventory() throws Exception {
+        statementsFor(get("/api/flights/" + flight.getId() + "/seats/available"));
+
+        assertThat(statementsFor(get("/api/flights/" + flight.getId() + "/seats/available"))).isZero();
+    }
+
+    @Test
+    void seatListIsTheFlightCheckAndOneSeatQuery() throws Exception {
+        assertThat(statementsFor(get("/api/flights/" + flight.getId() + "/seats"))).isEqualTo(2);
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
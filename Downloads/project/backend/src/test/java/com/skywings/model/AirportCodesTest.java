@@ -0,0 +1,48 @@
+package com.skywings.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AirportCodesTest {
+
+    @Test
+    void resolvesExplicitAndKnownCodes() {
+        assertThat(AirportCodes.resolve("New York (JFK)")).containsExactly("JFK");
+        assertThat(AirportCodes.resolve("Sydney (syd)")).containsExactly("SYD");
+        assertThat(AirportCodes.resolve("jfk")).containsExactly("JFK");
+        assertThat(AirportCodes.resolve(" LHR ")).containsExactly("LHR");
+    }
+
+    @Test
+    void resolvesSingleAirportCities() {
+        assertThat(AirportCodes.resolve("Boston")).containsExactly("BOS");
+        assertThat(AirportCodes.resolve("sfo")).containsExactly("SFO");
+    }
+
+    @Test
+    void multiAirportCitiesFallBackToSubstringSearch() {
+        assertThat(AirportCodes.resolve("New York")).isEmpty();
+        assertThat(AirportCodes.resolve("nyc")).isEmpty();
+        assertThat(AirportCodes.resolve("London")).isEmpty();
+        // Flights stored under the bare city name have no code to find them by
+        assertThat(AirportCodes.airportCode("Chicago")).isNull();
+    }
+
+    @Test
+    void unknownCodesAndPlacesFallBackToSubstringSearch() {
+        assertThat(AirportCodes.resolve("XYZ")).isEmpty();
+        assertThat(AirportCodes.resolve("SYD")).isEmpty();
+        assertThat(AirportCodes.resolve("Springfield")).isEmpty();
+        assertThat(AirportCodes.resolve("  ")).isEmpty();
+        assertThat(AirportCodes.resolve(null)).isEmpty();
+    }
+
+    @Test
+    void substringSearchUsesTheCityNameForCityCodes() {
+        assertThat(AirportCodes.searchText("nyc")).isEqualTo("new york");
+        assertThat(AirportCodes.searchText(" Chicago ")).isEqualTo("Chicago");
+        assertThat(AirportCodes.searchText("XYZ")).isEqualTo("XYZ");
+        assertThat(AirportCodes.searchText("")).isNull();
+    }
+}
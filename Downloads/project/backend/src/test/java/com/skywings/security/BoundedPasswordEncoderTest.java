@@ -0,0 +1,85 @@
+package com.skywings.security;
+
+import com.skywings.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+    private static final long WAIT_MS = 1000;
+    private static final long HASH_MS = 300;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> hashed = new CopyOnWriteArrayList<>();
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new SlowEncoder(), 1, 8, WAIT_MS);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void queuedHashThatCannotFinishInTimeIsSkipped() throws Exception {
+        assertThat(encoder.matches("warmup", "x")).isTrue();
+        CompletableFuture<Boolean> blocker = CompletableFuture.supplyAsync(() -> encoder.matches("block", "x"));
+        awaitHashing("block");
+        long queuedAt = System.nanoTime();
+        CompletableFuture<Boolean> late = CompletableFuture.supplyAsync(() -> encoder.matches("late", "x"));
+
+        // Frees the only hashing thread when the queued caller has ~200 ms left, less than one hash takes
+        Thread.sleep(WAIT_MS - HASH_MS + 100);
+        release.countDown();
+
+        assertThatThrownBy(() -> late.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceBusyException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAt)).isLessThan(WAIT_MS);
+        assertThat(blocker.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hashed).doesNotContain("late");
+        assertThat(encoder.getSkippedCount()).isEqualTo(1);
+
+        // With the pool free again, hashes run as usual
+        assertThat(encoder.matches("after", "x")).isTrue();
+    }
+
+    private void awaitHashing(String password) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!hashed.contains(password) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private class SlowEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashed.add(rawPassword.toString());
+            try {
+                if ("block".contentEquals(rawPassword)) {
+                    release.await();
+                } else {
+                    Thread.sleep(HASH_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.skywings.security.services;
+
+import com.skywings.model.RevokedToken;
+import com.skywings.model.User;
+import com.skywings.repository.RevokedTokenRepository;
+import com.skywings.repository.UserRepository;
+import com.skywings.security.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenDenylistTest {
+
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void revocationsStampedBeforeTheLastRefreshArePickedUp() {
+        tokenDenylist.refresh();
+        // Revoked on another node whose commit (or clock) lags behind this node's last refresh
+        String late = revokeElsewhere(LocalDateTime.now().minusSeconds(60));
+        String current = revokeElsewhere(LocalDateTime.now());
+        assertThat(tokenDenylist.isRevoked(claims(late))).isFalse();
+
+        tokenDenylist.refresh();
+
+        assertThat(tokenDenylist.isRevoked(claims(late))).isTrue();
+        assertThat(tokenDenylist.isRevoked(claims(current))).isTrue();
+        assertThat(tokenDenylist.isRevoked(claims(UUID.randomUUID().toString()))).isFalse();
+    }
+
+    @Test
+    void aRefreshThatReadStaleEpochsKeepsALocalSignOutEverywhere() {
+        User user = userRepository.save(new User("epoch" + System.nanoTime() + "@skywings.com", "x", "Epoch", "User"));
+        Claims issued = Jwts.claims();
+        issued.put(JwtUtils.CLAIM_USER_ID, user.getId());
+        issued.put(JwtUtils.CLAIM_EPOCH, 0);
+
+        tokenDenylist.revokeAll(user.getId());
+        assertThat(tokenDenylist.isRevoked(issued)).isTrue();
+        // What a refresh sees when its query ran before the revokeAll committed
+        jdbcTemplate.update("UPDATE users SET token_epoch = 0 WHERE id = ?", user.getId());
+        tokenDenylist.refresh();
+
+        assertThat(tokenDenylist.isRevoked(issued)).isTrue();
+    }
+
+    private String revokeElsewhere(LocalDateTime revokedAt) {
+        RevokedToken token = new RevokedToken(UUID.randomUUID().toString(), null, LocalDateTime.now().plusHours(1));
+        token.setRevokedAt(revokedAt);
+        return revokedTokenRepository.save(token).getJti();
+    }
+
+    private static Claims claims(String jti) {
+        return Jwts.claims().setId(jti);
+    }
+}
@@ -0,0 +1,280 @@
+package com.skywings.service;
+
+import com.skywings.dto.BookingRequest;
+import com.skywings.dto.SeatState;
+import com.skywings.exception.BookingException;
+import com.skywings.exception.SeatUnavailableException;
+import com.skywings.model.Flight;
+import com.skywings.model.Seat;
+import com.skywings.model.User;
+import com.skywings.repository.FlightRepository;
+import com.skywings.repository.SeatRepository;
+import com.skywings.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Fires concurrent bookings at the same seats and checks that every seat has
+ * exactly one winner and the flight counters move once per winning booking;
+ * likewise for concurrent cancels of one booking. The booking-rush load test
+ * measures the same contention through the HTTP stack.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingServiceConcurrencyTest {
+    private static final Logger logger = LoggerFactory.getLogger(BookingServiceConcurrencyTest.class);
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_SEAT = 12;
+    private static final AtomicInteger FLIGHTS = new AtomicInteger();
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Flight flight;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Flight template = new Flight();
+        template.setFlightNumber("RACE" + FLIGHTS.incrementAndGet());
+        template.setAirline("SkyWings");
+        template.setOrigin("New York (JFK)");
+        template.setDestination("London (LHR)");
+        template.setDepartureTime(LocalDateTime.now().plusDays(10));
+        template.setArrivalTime(LocalDateTime.now().plusDays(10).plusHours(7));
+        template.setPrice(BigDecimal.valueOf(500));
+        template.setTotalSeats(174);
+        template.setAircraft("Boeing 737");
+        flight = flightService.createFlight(template);
+
+        userIds.clear();
+        addUsers(THREADS);
+    }
+
+    @Test
+    void onlyOneConcurrentBookingWinsASeat() throws Exception {
+        Long seatId = seatRepository.findSeatStatesByFlightId(flight.getId()).get(0).id();
+
+        Map<String, Integer> outcomes = race(THREADS, i -> seatId, userIds::get);
+
+        assertThat(outcomes.get("won")).isEqualTo(1);
+        assertThat(outcomes.get("unavailable")).isEqualTo(THREADS - 1);
+        assertThat(outcomes.get("failed")).isZero();
+        assertThat(seatRepository.findById(seatId).orElseThrow().getStatus()).isEqualTo(Seat.SeatStatus.OCCUPIED);
+        assertThat(activeBookingsOnSeat(seatId)).isEqualTo(1);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats())
+                .isEqualTo(flight.getAvailableSeats() - 1);
+    }
+
+    @Test
+    void countersMatchWinnersAcrossContendedSeats() throws Exception {
+        List<Long> seatIds = seatRepository.findSeatStatesByFlightId(flight.getId()).stream()
+                .limit(4).map(SeatState::id).toList();
+
+        Map<String, Integer> outcomes = race(THREADS, i -> seatIds.get(i % seatIds.size()), userIds::get);
+
+        assertThat(outcomes.get("won")).isEqualTo(seatIds.size());
+        assertThat(outcomes.get("failed")).isZero();
+        for (Long seatId : seatIds) {
+            assertThat(activeBookingsOnSeat(seatId)).isEqualTo(1);
+        }
+        Flight reloaded = flightRepository.findById(flight.getId()).orElseThrow();
+        assertThat(reloaded.getAvailableSeats()).isEqualTo(flight.getAvailableSeats() - seatIds.size());
+        assertThat(reloaded.getAvailableSeats()).isEqualTo(
+                seatRepository.countAvailableSeatsByFlight(reloaded));
+    }
+
+    @Test
+    void thousandsOfBookingsAtOneFlightLeaveOneWinnerPerSeat() throws Exception {
+        List<Long> seatIds = seatRepository.findSeatStatesByFlightId(flight.getId()).stream()
+                .map(SeatState::id).toList();
+        // One user per seat, so winners never contend on the same user row
+        addUsers(seatIds.size() - userIds.size());
+        int attempts = seatIds.size() * ATTEMPTS_PER_SEAT;
+
+        long started = System.nanoTime();
+        Map<String, Integer> outcomes = race(attempts, i -> seatIds.get(i / ATTEMPTS_PER_SEAT),
+                i -> userIds.get(i / ATTEMPTS_PER_SEAT));
+        double seconds = (System.nanoTime() - started) / 1e9;
+        logger.info("{} booking attempts on {} seats of one flight from {} threads in {} ms: " +
+                        "{} attempts/s, {} bookings/s, {}% seat conflicts (409)",
+                attempts, seatIds.size(), THREADS, Math.round(seconds * 1000), Math.round(attempts / seconds),
+                Math.round(outcomes.get("won") / seconds),
+                String.format("%.1f", 100.0 * outcomes.get("unavailable") / attempts));
+
+        assertThat(outcomes.get("won")).isEqualTo(seatIds.size());
+        assertThat(outcomes.get("unavailable")).isEqualTo(attempts - seatIds.size());
+        assertThat(outcomes.get("failed")).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT COUNT(*) FROM bookings WHERE flight_id = ? " +
+                "AND status <> 'CANCELLED' GROUP BY seat_id", Integer.class, flight.getId()))
+                .hasSize(seatIds.size()).containsOnly(1);
+        Flight reloaded = flightRepository.findById(flight.getId()).orElseThrow();
+        assertThat(reloaded.getAvailableSeats()).isZero();
+        assertThat(seatRepository.countAvailableSeatsByFlight(reloaded)).isZero();
+    }
+
+    @Test
+    void concurrentCancelsReleaseTheSeatOnce() throws Exception {
+        Long seatId = seatRepository.findSeatStatesByFlightId(flight.getId()).get(0).id();
+        Long bookingId = book(seatId, userIds.get(0));
+        long cancelledBefore = cancelledRollup();
+
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.cancelBooking(bookingId, userIds.get(0));
+                        cancelled.incrementAndGet();
+                    } catch (BookingException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cancelled.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+        assertThat(cancelledRollup()).isEqualTo(cancelledBefore + 1);
+        assertThat(seatRepository.findById(seatId).orElseThrow().getStatus()).isEqualTo(Seat.SeatStatus.AVAILABLE);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats())
+                .isEqualTo(flight.getAvailableSeats());
+    }
+
+    @Test
+    void releasingASeatLeavesItToTheBookingThatNowHoldsIt() {
+        Long seatId = seatRepository.findSeatStatesByFlightId(flight.getId()).get(0).id();
+        Long expired = book(seatId, userIds.get(0));
+        // What the expiry sweeper does to an overdue booking
+        jdbcTemplate.update("UPDATE bookings SET status = 'CANCELLED' WHERE id = ?", expired);
+        jdbcTemplate.update("UPDATE seats SET status = 'AVAILABLE' WHERE id = ?", seatId);
+        book(seatId, userIds.get(1));
+        int available = flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats();
+
+        Integer released = transactionTemplate.execute(status -> seatRepository.releaseSeat(seatId, expired));
+        assertThat(released).isZero();
+        assertThatThrownBy(() -> bookingService.cancelBooking(expired, userIds.get(0)))
+                .isInstanceOf(BookingException.class);
+        assertThat(seatRepository.findById(seatId).orElseThrow().getStatus()).isEqualTo(Seat.SeatStatus.OCCUPIED);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats()).isEqualTo(available);
+    }
+
+    private Long book(Long seatId, Long userId) {
+        BookingRequest request = new BookingRequest();
+        request.setFlightId(flight.getId());
+        request.setSeatId(seatId);
+        request.setPassengerName("Passenger");
+        request.setBaggageWeight(10);
+        return bookingService.createBooking(request, userId).id();
+    }
+
+    private long cancelledRollup() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(bookings), 0) FROM analytics_rollups " +
+                "WHERE metric = 'status' AND bucket = 'CANCELLED'", Long.class);
+    }
+
+    private void addUsers(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = userIds.size();
+            User user = new User("race" + flight.getId() + "-" + n + "@skywings.com", "x", "Race", "User" + n);
+            userIds.add(userRepository.save(user).getId());
+        }
+    }
+
+    private Map<String, Integer> race(int attempts, IntFunction<Long> seatFor, IntFunction<Long> userFor)
+            throws Exception {
+        AtomicInteger won = new AtomicInteger();
+        AtomicInteger unavailable = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                int attempt = i;
+                futures.add(executor.submit(() -> {
+                    BookingRequest request = new BookingRequest();
+                    request.setFlightId(flight.getId());
+                    request.setSeatId(seatFor.apply(attempt));
+                    request.setPassengerName("Passenger " + attempt);
+                    request.setBaggageWeight(10);
+                    start.await();
+                    try {
+                        bookingService.createBooking(request, userFor.apply(attempt));
+                        won.incrementAndGet();
+                    } catch (SeatUnavailableException e) {
+                        unavailable.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return Map.of("won", won.get(), "unavailable", unavailable.get(), "failed", failed.get());
+    }
+
+    private int activeBookingsOnSeat(Long seatId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE seat_id = ? AND status <> 'CANCELLED'", Integer.class, seatId);
+    }
+}
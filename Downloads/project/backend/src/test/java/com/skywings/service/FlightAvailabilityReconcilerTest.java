@@ -0,0 +1,58 @@
+package com.skywings.service;
+
+import com.skywings.model.Flight;
+import com.skywings.repository.FlightRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FlightAvailabilityReconcilerTest {
+
+    @Autowired
+    private FlightAvailabilityReconciler reconciler;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void startupBackfillFillsNullCabinCountersOnDepartedFlights() {
+        Flight flight = new Flight();
+        flight.setFlightNumber("NULLCOUNT1");
+        flight.setAirline("SkyWings");
+        flight.setOrigin("Chicago (ORD)");
+        flight.setDestination("Seattle (SEA)");
+        flight.setDepartureTime(LocalDateTime.now().plusDays(3));
+        flight.setArrivalTime(LocalDateTime.now().plusDays(3).plusHours(4));
+        flight.setPrice(BigDecimal.valueOf(250));
+        flight.setTotalSeats(174);
+        flight.setAircraft("Boeing 737");
+        Long id = flightService.createFlight(flight).getId();
+        // As left by rows created before the per-cabin columns existed
+        jdbcTemplate.update("UPDATE flights SET available_first_seats = NULL, available_business_seats = NULL, " +
+                "available_economy_seats = NULL, departure_time = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(30), id);
+
+        reconciler.run(null);
+
+        Flight repaired = flightRepository.findById(id).orElseThrow();
+        assertThat(repaired.getAvailableFirstSeats()).isZero();
+        assertThat(repaired.getAvailableBusinessSeats()).isEqualTo(16);
+        assertThat(repaired.getAvailableEconomySeats()).isEqualTo(162);
+        assertThat(repaired.getAvailableSeats()).isEqualTo(178);
+    }
+}
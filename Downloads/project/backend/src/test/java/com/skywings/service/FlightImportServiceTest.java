@@ -0,0 +1,64 @@
+package com.skywings.service;
+
+import com.skywings.dto.FlightImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tiny chunks on several workers, so duplicates land in different, concurrently written chunks
+@SpringBootTest(properties = {"skywings.import.chunk-size=3", "skywings.import.workers=4"})
+@ActiveProfiles("test")
+class FlightImportServiceTest {
+
+    @Autowired
+    private FlightImportService flightImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void duplicatesAcrossChunksAreRejectedByTheDatabase() {
+        int distinct = 40;
+        LocalDateTime departure = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(40);
+        StringBuilder csv = new StringBuilder(
+                "flightNumber,airline,origin,destination,aircraft,departureTime,arrivalTime,price\n");
+        for (int copy = 0; copy < 2; copy++) {
+            for (int i = 0; i < distinct; i++) {
+                csv.append(String.format("IMP%03d,SkyWings,Boston (BOS),Miami (MIA),Airbus A320,%s,%s,199.00\n",
+                        i, departure.plusMinutes(i), departure.plusMinutes(i + 180)));
+            }
+        }
+
+        FlightImportResult result = flightImportService.importSchedule(new StringReader(csv.toString()),
+                FlightImportService.Format.CSV);
+
+        assertThat(result.rows()).isEqualTo(2L * distinct);
+        assertThat(result.imported()).isEqualTo(distinct);
+        assertThat(result.failed()).isEqualTo(distinct);
+        assertThat(result.errors()).allSatisfy(error ->
+                assertThat(error.message()).isEqualTo("Flight number already exists"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flights WHERE flight_number LIKE 'IMP%'", Integer.class)).isEqualTo(distinct);
+    }
+
+    @Test
+    void layoutDecidesTheCapacity() {
+        String csv = "flightNumber,airline,origin,destination,aircraft,departureTime,arrivalTime,price,totalSeats\n" +
+                "CAP001,SkyWings,Boston (BOS),Miami (MIA),Airbus A320,2031-01-01T10:00,2031-01-01T13:00,199.00,999\n";
+
+        FlightImportResult result = flightImportService.importSchedule(new StringReader(csv),
+                FlightImportService.Format.CSV);
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> assertThat(error.message()).contains("does not match"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.skywings.service;
+
+import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightSearchCacheTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 14, 0, 0);
+
+    private final FlightSearchCache cache = new FlightSearchCache(100, 60000, 0, 1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void flightChangeDropsOnlySearchesItCanAppearIn() {
+        search("Boston", "Miami");
+        search("BOS", null);
+        search("New York", "London");
+        search(null, "MIA");
+        search("Seattle", "Denver");
+        loads.set(0);
+
+        cache.invalidate("Boston (BOS)", "Miami (MIA)", DAY.plusHours(9));
+
+        search("Boston", "Miami");
+        search("BOS", null);
+        search(null, "MIA");
+        assertThat(loads.get()).isEqualTo(3);
+        search("New York", "London");
+        search("Seattle", "Denver");
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void substringSearchesAreDroppedForMatchingPlaces() {
+        search("New York", null);
+        search("nyc", "Paris");
+        loads.set(0);
+
+        cache.invalidate("New York (JFK)", "Paris (CDG)", DAY.plusHours(20));
+
+        search("New York", null);
+        search("nyc", "Paris");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void otherDaysAreKept() {
+        search("Boston", "Miami");
+        loads.set(0);
+
+        cache.invalidate("Boston (BOS)", "Miami (MIA)", DAY.plusDays(1));
+
+        search("Boston", "Miami");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void concurrentIdenticalSearchesShareOneLoad() throws Exception {
+        int threads = 16;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<List<FlightSummary>>> results = new ArrayList<>();
+            results.add(CompletableFuture.supplyAsync(() -> cache.get(request("Boston", "Miami"), request -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return List.of();
+            }), executor));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < threads; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> search("Boston", "Miami"), executor));
+            }
+            // Everyone else is parked on the pending load before it completes
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.stats().coalescedLoads() < threads - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (CompletableFuture<List<FlightSummary>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEmpty();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().loads()).isEqualTo(1);
+        assertThat(cache.stats().coalescedLoads()).isEqualTo(threads - 1);
+    }
+
+    private List<FlightSummary> search(String origin, String destination) {
+        return cache.get(request(origin, destination), request -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+    }
+
+    private static FlightSearchRequest request(String origin, String destination) {
+        return new FlightSearchRequest(origin, destination, DAY);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
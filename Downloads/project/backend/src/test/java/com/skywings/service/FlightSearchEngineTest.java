@@ -0,0 +1,62 @@
+package com.skywings.service;
+
+import com.skywings.dto.FlightSearchRequest;
+import com.skywings.repository.FlightRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FlightSearchEngineTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @InjectMocks
+    private FlightSearchEngine flightSearchEngine;
+
+    @Test
+    void knownAirportsUseTheRouteIndex() {
+        flightSearchEngine.search(new FlightSearchRequest("Boston", "LHR", null));
+
+        verify(flightRepository).searchByRoute(eq(Set.of("BOS")), eq("Boston"), eq(Set.of("LHR")), eq("LHR"), any(),
+                any());
+        verifyNoMoreInteractions(flightRepository);
+    }
+
+    @Test
+    void multiAirportCityFallsBackToSubstringSearch() {
+        LocalDateTime day = LocalDateTime.of(2030, 5, 1, 0, 0);
+        flightSearchEngine.search(new FlightSearchRequest("nyc", "Boston", day));
+
+        verify(flightRepository).searchFlights("new york", "Boston", day);
+        verifyNoMoreInteractions(flightRepository);
+    }
+
+    @Test
+    void unknownCodeFallsBackToSubstringSearch() {
+        flightSearchEngine.search(new FlightSearchRequest("XYZ", null, null));
+
+        verify(flightRepository).searchFlights(eq("XYZ"), isNull(), isNull());
+        verifyNoMoreInteractions(flightRepository);
+    }
+
+    @Test
+    void noPlacesSearchesByDeparture() {
+        flightSearchEngine.search(new FlightSearchRequest(null, " ", null));
+
+        verify(flightRepository).searchByDeparture(any(), any());
+        verifyNoMoreInteractions(flightRepository);
+    }
+}
@@ -0,0 +1,139 @@
+package com.skywings.service;
+
+import com.skywings.dto.BookingRequest;
+import com.skywings.dto.FlightSearchRequest;
+import com.skywings.dto.FlightSummary;
+import com.skywings.model.Flight;
+import com.skywings.model.User;
+import com.skywings.repository.FlightRepository;
+import com.skywings.repository.SeatRepository;
+import com.skywings.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FlightServiceTest {
+    private static final AtomicInteger FLIGHTS = new AtomicInteger();
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private FlightRouteCodeBackfill flightRouteCodeBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createFlightInsertsCountersFromTheSeatLayout() {
+        Flight flight = flightService.createFlight(newFlight("Boeing 787"));
+
+        Flight stored = flightRepository.findById(flight.getId()).orElseThrow();
+        assertThat(stored.getAvailableSeats()).isEqualTo(seatRepository.countAvailableSeatsByFlight(stored));
+        // The requested 150 is replaced by the layout's capacity
+        assertThat(stored.getTotalSeats()).isEqualTo(stored.getAvailableSeats());
+        assertThat(stored.getAvailableFirstSeats() + stored.getAvailableBusinessSeats()
+                + stored.getAvailableEconomySeats()).isEqualTo(stored.getAvailableSeats());
+    }
+
+    @Test
+    void savingAStaleFlightKeepsConcurrentCounterDeltas() {
+        Flight flight = flightService.createFlight(newFlight("Airbus A320"));
+        int before = flight.getAvailableSeats();
+        Long userId = userRepository.save(new User("stale" + flight.getId() + "@skywings.com", "x", "Stale", "User"))
+                .getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Flight stale = flightService.getFlightById(flight.getId());
+            // A booking commits on another thread while this transaction holds the old counters
+            CompletableFuture.runAsync(() -> {
+                BookingRequest request = new BookingRequest();
+                request.setFlightId(flight.getId());
+                request.setSeatId(seatRepository.findSeatStatesByFlightId(flight.getId()).get(0).id());
+                request.setPassengerName("Concurrent Passenger");
+                request.setBaggageWeight(10);
+                bookingService.createBooking(request, userId);
+            }).join();
+            stale.setPrice(BigDecimal.valueOf(321));
+            flightRepository.save(stale);
+        });
+
+        Flight stored = flightRepository.findById(flight.getId()).orElseThrow();
+        assertThat(stored.getPrice()).isEqualByComparingTo("321");
+        assertThat(stored.getAvailableSeats()).isEqualTo(before - 1);
+    }
+
+    @Test
+    void cityNameSearchFindsFlightsStoredUnderAnUncodedPlace() {
+        Flight template = newFlight("Airbus A320");
+        template.setOrigin("Boston Logan");
+        template.setDestination("Miami, FL");
+        template.setDepartureTime(LocalDateTime.now().plusDays(9));
+        template.setArrivalTime(template.getDepartureTime().plusHours(3));
+        Flight flight = flightService.createFlight(template);
+        assertThat(flight.getOriginCode()).isNull();
+
+        List<FlightSummary> found = flightService.searchFlights(
+                new FlightSearchRequest("Boston", "Miami", template.getDepartureTime()));
+
+        assertThat(found).extracting(FlightSummary::id).contains(flight.getId());
+    }
+
+    @Test
+    void routeCodeBackfillVisitsUncodedPlacesOnce() {
+        Flight flight = flightService.createFlight(newFlight("Airbus A320"));
+        // A row written before the codes existed, at a place that has no code
+        jdbcTemplate.update("UPDATE flights SET origin = 'Springfield', origin_code = NULL, destination_code = NULL, " +
+                "route_codes_checked = NULL WHERE id = ?", flight.getId());
+
+        flightRouteCodeBackfill.run(null);
+
+        Flight stored = flightRepository.findById(flight.getId()).orElseThrow();
+        assertThat(stored.getOriginCode()).isNull();
+        assertThat(stored.getDestinationCode()).isEqualTo("MIA");
+        assertThat(flightRepository.findWithoutRouteCodes(0L, PageRequest.ofSize(10))).isEmpty();
+    }
+
+    private static Flight newFlight(String aircraft) {
+        Flight flight = new Flight();
+        flight.setFlightNumber("FS" + FLIGHTS.incrementAndGet());
+        flight.setAirline("SkyWings");
+        flight.setOrigin("Boston (BOS)");
+        flight.setDestination("Miami (MIA)");
+        flight.setDepartureTime(LocalDateTime.now().plusDays(5));
+        flight.setArrivalTime(LocalDateTime.now().plusDays(5).plusHours(3));
+        flight.setPrice(BigDecimal.valueOf(199));
+        flight.setTotalSeats(150);
+        flight.setAircraft(aircraft);
+        return flight;
+    }
+}
@@ -0,0 +1,104 @@
+package com.skywings.service;
+
+import com.skywings.dto.SeatState;
+import com.skywings.model.Flight;
+import com.skywings.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatFeatureMigrationTest {
+
+    @Autowired
+    private SeatFeatureMigration seatFeatureMigration;
+
+    @Autowired
+    private SeatFeatureCatalog seatFeatureCatalog;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dropLegacyTables();
+        jdbcTemplate.execute("CREATE TABLE seat_features (seat_id BIGINT NOT NULL, feature VARCHAR(255))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropLegacyTables();
+    }
+
+    @Test
+    void legacySeatsGetTheSetOfTheirOwnFeatures() {
+        Flight flight = flightService.createFlight(newFlight());
+        List<SeatState> seats = seatRepository.findSeatStatesByFlightId(flight.getId());
+        Long custom = seats.get(0).id();
+        Long plain = seats.get(1).id();
+        Long untouched = seats.get(2).id();
+        Long untouchedSet = seats.get(2).featureSetId();
+        jdbcTemplate.update("UPDATE seats SET feature_set_id = NULL WHERE id IN (?, ?)", custom, plain);
+        jdbcTemplate.update("INSERT INTO seat_features (seat_id, feature) VALUES (?, 'Extra legroom'), " +
+                "(?, 'Power outlet')", custom, custom);
+
+        seatFeatureMigration.run(null);
+
+        assertThat(seatFeatureCatalog.featuresOf(featureSetOf(custom)))
+                .containsExactly("Extra legroom", "Power outlet");
+        // No legacy rows means no features, not the cabin's defaults
+        assertThat(featureSetOf(plain)).isNull();
+        assertThat(featureSetOf(untouched)).isEqualTo(untouchedSet);
+        assertThat(tableCount("seat_features")).isZero();
+        assertThat(tableCount("seat_features_migrated")).isOne();
+
+        // Nothing left to do on the next start
+        jdbcTemplate.update("UPDATE seats SET feature_set_id = NULL WHERE id = ?", custom);
+        seatFeatureMigration.run(null);
+        assertThat(featureSetOf(custom)).isNull();
+    }
+
+    private Long featureSetOf(Long seatId) {
+        return jdbcTemplate.queryForObject("SELECT feature_set_id FROM seats WHERE id = ?", Long.class, seatId);
+    }
+
+    private int tableCount(String name) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = ?", Integer.class, name);
+    }
+
+    private void dropLegacyTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS seat_features");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS seat_features_migrated");
+    }
+
+    private static Flight newFlight() {
+        Flight flight = new Flight();
+        flight.setFlightNumber("MIG" + System.nanoTime() % 1_000_000);
+        flight.setAirline("SkyWings");
+        flight.setOrigin("Boston (BOS)");
+        flight.setDestination("Miami (MIA)");
+        flight.setDepartureTime(LocalDateTime.now().plusDays(20));
+        flight.setArrivalTime(LocalDateTime.now().plusDays(20).plusHours(3));
+        flight.setPrice(BigDecimal.valueOf(199));
+        flight.setAircraft("Boeing 787");
+        return flight;
+    }
+}
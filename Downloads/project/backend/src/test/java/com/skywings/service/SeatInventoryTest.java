@@ -0,0 +1,51 @@
+package com.skywings.service;
+
+import com.skywings.dto.SeatState;
+import com.skywings.model.Seat;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatInventoryTest {
+
+    @Test
+    void tagFollowsSeatContentNotTheInventoryInstance() {
+        SeatInventory inventory = SeatInventory.build(7L, seats(Seat.SeatStatus.AVAILABLE));
+        String initial = tag(inventory);
+
+        // A rebuild of the same seats (e.g. after max-age expiry) keeps clients' cached copies valid
+        assertThat(tag(SeatInventory.build(7L, seats(Seat.SeatStatus.AVAILABLE)))).isEqualTo(initial);
+
+        inventory.markOccupied(102L);
+        String occupied = tag(inventory);
+        assertThat(occupied).isNotEqualTo(initial);
+        assertThat(tag(SeatInventory.build(7L, seats(Seat.SeatStatus.OCCUPIED)))).isEqualTo(occupied);
+
+        inventory.markAvailable(102L);
+        assertThat(tag(inventory)).isEqualTo(initial);
+    }
+
+    @Test
+    void differentLayoutsWithTheSameOccupancyGetDifferentTags() {
+        List<SeatState> other = new ArrayList<>(seats(Seat.SeatStatus.AVAILABLE));
+        other.set(0, new SeatState(200L, 1, "A", Seat.SeatType.FIRST, BigDecimal.TEN, Seat.SeatStatus.AVAILABLE, null));
+
+        assertThat(tag(SeatInventory.build(8L, other)))
+                .isNotEqualTo(tag(SeatInventory.build(7L, seats(Seat.SeatStatus.AVAILABLE))));
+    }
+
+    private static String tag(SeatInventory inventory) {
+        return inventory.tagOf(inventory.occupancySnapshot());
+    }
+
+    private static List<SeatState> seats(Seat.SeatStatus secondSeat) {
+        return List.of(
+                new SeatState(101L, 1, "A", Seat.SeatType.FIRST, BigDecimal.TEN, Seat.SeatStatus.AVAILABLE, null),
+                new SeatState(102L, 1, "B", Seat.SeatType.FIRST, BigDecimal.TEN, secondSeat, null),
+                new SeatState(103L, 2, "A", Seat.SeatType.ECONOMY, BigDecimal.ZERO, Seat.SeatStatus.AVAILABLE, null));
+    }
+}
@@ -0,0 +1,24 @@
+package com.skywings.support;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * MySQL functions used by the backend's native SQL that H2 lacks, registered
+ * as H2 aliases from the JDBC URL. Published in the test-jar for loadtest/ and
+ * benchmarks/.
+ */
+public final class MySqlFunctions {
+
+    private MySqlFunctions() {
+    }
+
+    // Only the specifiers the backend uses
+    public static String dateFormat(LocalDateTime value, String format) {
+        if (value == null || format == null) {
+            return null;
+        }
+        String pattern = format.replace("%Y", "yyyy").replace("%m", "MM").replace("%d", "dd");
+        return value.format(DateTimeFormatter.ofPattern(pattern));
+    }
+}